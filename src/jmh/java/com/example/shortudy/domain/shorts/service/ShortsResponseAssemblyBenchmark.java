@@ -0,0 +1,104 @@
+package com.example.shortudy.domain.shorts.service;
+
+import com.example.shortudy.domain.shorts.dto.ShortsResponse;
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 응답 조립 비용 비교
+ * - legacyCopyChain: JPQL DTO 생성 → 조회수/프로필 URL 복사 → 키워드 복사 → 좋아요 복사 (기존 방식)
+ * - assembler: 부가 정보를 모은 뒤 행마다 한 번만 생성 (ShortsResponseAssembler.build)
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 값으로 페이지당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShortsResponseAssemblyBenchmark {
+
+    @Param({"8", "20", "50"})
+    private int pageSize;
+
+    private List<ShortsRow> rows;
+    private ShortsResponseAssembler.PageContext context;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(pageSize);
+        Map<Long, List<String>> keywords = new HashMap<>();
+        Map<Long, Long> pendingViews = new HashMap<>();
+        Set<Long> likedIds = new HashSet<>();
+        Map<String, String> profileUrls = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (long id = 1; id <= pageSize; id++) {
+            String profileKey = "profile/" + (id % 4) + ".png";
+            rows.add(new ShortsRow(id, "title" + id, "description", "https://video/" + id, "https://thumb/" + id, 30,
+                    ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, id % 4, "nickname", profileKey,
+                    1L, "category", 100L, 10, 3L, now, now, 0L));
+            keywords.put(id, List.of("java", "spring"));
+            pendingViews.put(id, 5L);
+            if (id % 3 == 0) {
+                likedIds.add(id);
+            }
+            profileUrls.put(profileKey, "https://bucket.s3.region.amazonaws.com/" + profileKey);
+        }
+        context = new ShortsResponseAssembler.PageContext(keywords, pendingViews, likedIds, profileUrls);
+    }
+
+    @Benchmark
+    public List<ShortsResponse> legacyCopyChain() {
+        // 기존 흐름과 동일하게 단계마다 Page.map 으로 새 목록을 만든다.
+        List<ShortsResponse> projected = new ArrayList<>(rows.size());
+        for (ShortsRow row : rows) {
+            projected.add(ShortsResponse.of(row, null, row.viewCount(), row.userProfileKey(), false));
+        }
+
+        List<ShortsResponse> enriched = new ArrayList<>(projected.size());
+        for (ShortsResponse o : projected) {
+            enriched.add(copy(o, o.keywords(), o.viewCount() + context.pendingViews().getOrDefault(o.shortsId(), 0L),
+                    context.profileUrls().get(o.userProfileUrl()), o.isLiked()));
+        }
+
+        List<ShortsResponse> withKeywords = new ArrayList<>(enriched.size());
+        for (ShortsResponse o : enriched) {
+            withKeywords.add(copy(o, context.keywords().getOrDefault(o.shortsId(), List.of()),
+                    o.viewCount(), o.userProfileUrl(), o.isLiked()));
+        }
+
+        List<ShortsResponse> result = new ArrayList<>(withKeywords.size());
+        for (ShortsResponse o : withKeywords) {
+            result.add(copy(o, o.keywords(), o.viewCount(), o.userProfileUrl(), context.likedIds().contains(o.shortsId())));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ShortsResponse> assembler() {
+        return ShortsResponseAssembler.build(rows, context, ShortsResponse::of);
+    }
+
+    private static ShortsResponse copy(ShortsResponse o, List<String> keywords, long viewCount, String profileUrl, boolean liked) {
+        return new ShortsResponse(o.shortsId(), o.title(), o.description(), o.videoUrl(), o.thumbnailUrl(),
+                o.durationSec(), o.status(), o.visibility(), o.userId(), o.userNickname(), profileUrl,
+                o.categoryId(), o.categoryName(), keywords, viewCount, o.likeCount(), o.commentCount(),
+                o.createdAt(), o.updatedAt(), liked);
+    }
+}
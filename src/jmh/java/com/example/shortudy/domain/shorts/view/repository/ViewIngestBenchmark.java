@@ -0,0 +1,154 @@
+package com.example.shortudy.domain.shorts.view.repository;
+
+import com.example.shortudy.domain.shorts.view.dedupe.BloomViewDedupeStrategy;
+import com.example.shortudy.domain.shorts.view.dedupe.HyperLogLogViewDedupeStrategy;
+import com.example.shortudy.domain.shorts.view.dedupe.KeyViewDedupeStrategy;
+import com.example.shortudy.domain.shorts.view.dedupe.ViewDedupeStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 적재 경로 비교 (실제 Redis 필요)
+ * - sequential: markUniqueView → increaseViewCount (SET NX EX, HINCRBY 순차 호출)
+ * - script: recordUniqueView (EVALSHA 1회, 중복 판정 방식은 dedupeMode)
+ * - sequential은 항상 방문자 키 방식이므로 dedupeMode=KEY 결과만 비교에 쓴다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ViewIngestBenchmark
+ * - 접속 대상: -Dbench.redis.host / port / database (기본 localhost:6379, 15번 DB) → 운영 Redis에 돌리지 않는다.
+ * - p99: SampleTime 결과의 p0.99 값
+ * - 조회당 Redis 명령 수: 종료 시 INFO commandstats 호출 수 차이를 조회 수로 나눠 출력
+ * - 중복 판정 메모리: 종료 시 INFO memory의 used_memory 차이를 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ViewIngestBenchmark {
+
+    private static final Duration UNIQUE_TTL = Duration.ofSeconds(60);
+
+    /** 이미 본 방문자의 재조회 비율 (%) */
+    @Param({"0", "50"})
+    private int duplicatePercent;
+
+    @Param({"KEY", "BLOOM", "HLL"})
+    private String dedupeMode;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisShortsViewCountRepository repository;
+    private ViewDedupeStrategy strategy;
+
+    private String runId;
+    private long sequence;
+    private long views;
+    private long callsBefore;
+    private long memoryBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.database", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        repository = new RedisShortsViewCountRepository(redisTemplate);
+        runId = Long.toHexString(System.nanoTime());
+        strategy = switch (dedupeMode) {
+            case "BLOOM" -> new BloomViewDedupeStrategy(10000, 0.01, Clock.systemDefaultZone());
+            case "HLL" -> new HyperLogLogViewDedupeStrategy(Clock.systemDefaultZone());
+            default -> new KeyViewDedupeStrategy(UNIQUE_TTL);
+        };
+
+        // 스크립트 SHA를 서버에 올려 둔 상태에서 측정한다.
+        repository.recordUniqueView(0L, "warmup", strategy);
+        memoryBefore = usedMemory();
+        callsBefore = totalCommandCalls();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // INFO 호출 자체는 제외하고 계산
+        long calls = totalCommandCalls() - callsBefore - 1;
+        long memory = usedMemory() - memoryBefore;
+        System.out.printf("%n[redis] dedupeMode=%s duplicatePercent=%d views=%d commands=%d commands/view=%.2f usedMemoryDelta=%,d bytes%n",
+                dedupeMode, duplicatePercent, views, calls, views == 0 ? 0.0 : (double) calls / views, memory);
+        redisTemplate.delete("shorts:view:count");
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public boolean sequential() {
+        long shortsId = nextShortsId();
+        String visitorId = nextVisitorId();
+        boolean isNewView = repository.markUniqueView(shortsId, visitorId, UNIQUE_TTL);
+        if (isNewView) {
+            repository.increaseViewCount(shortsId);
+        }
+        return isNewView;
+    }
+
+    @Benchmark
+    public boolean script() {
+        return repository.recordUniqueView(nextShortsId(), nextVisitorId(), strategy);
+    }
+
+    private long nextShortsId() {
+        views++;
+        return 1 + (sequence % 1000);
+    }
+
+    private String nextVisitorId() {
+        long seq = sequence++;
+        // duplicatePercent 비율만큼은 직전 구간의 방문자를 재사용한다.
+        boolean duplicate = (seq % 100) < duplicatePercent && seq >= 1000;
+        return "bench-" + (duplicate ? seq - 1000 : seq) + "-" + runId;
+    }
+
+    private long usedMemory() {
+        Properties stats = info("memory");
+        return stats == null ? 0L : Long.parseLong(stats.getProperty("used_memory", "0"));
+    }
+
+    private Properties info(String section) {
+        return redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info(section));
+    }
+
+    private long totalCommandCalls() {
+        Properties stats = info("commandstats");
+        long total = 0;
+        if (stats == null) {
+            return total;
+        }
+        for (String name : stats.stringPropertyNames()) {
+            String value = stats.getProperty(name);
+            int start = value.indexOf("calls=");
+            if (start < 0) {
+                continue;
+            }
+            int end = value.indexOf(',', start);
+            total += Long.parseLong(value.substring(start + 6, end < 0 ? value.length() : end));
+        }
+        return total;
+    }
+}
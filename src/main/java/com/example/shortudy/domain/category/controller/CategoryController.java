@@ -2,19 +2,23 @@ package com.example.shortudy.domain.category.controller;
 
 import com.example.shortudy.domain.category.dto.request.CategoryRequest;
 import com.example.shortudy.domain.category.dto.response.CategoryResponse;
+import com.example.shortudy.domain.category.query.CategorySnapshot;
 import com.example.shortudy.domain.category.service.CategoryService;
 import com.example.shortudy.domain.shorts.dto.ShortsResponse;
 import com.example.shortudy.domain.shorts.service.ShortsQueryService;
 import com.example.shortudy.global.common.ApiResponse;
+import com.example.shortudy.global.pagination.PageMode;
 import com.example.shortudy.global.security.principal.CustomUserDetails;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -41,11 +45,20 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(created));
     }
 
-    // 카테고리 전체 조회.
+    // 카테고리 전체 조회. (ETag가 같으면 본문 없이 304)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> readAllCategories() {
-        List<CategoryResponse> list = categoryService.readAllCategories();
-        return ResponseEntity.ok(ApiResponse.success(list));
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> readAllCategories(WebRequest webRequest) {
+        CategorySnapshot snapshot = categoryService.readCategorySnapshot();
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(snapshot.categories()));
     }
 
     @DeleteMapping("/{categoryId}")
@@ -65,13 +78,14 @@ public class CategoryController {
     @Deprecated(since = "확장 가능성이 낮아 삭제 예정.")
     @GetMapping("/{categoryId}/shorts")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<ApiResponse<Page<ShortsResponse>>> getShortsByCategory(
+    public ResponseEntity<ApiResponse<Slice<ShortsResponse>>> getShortsByCategory(
             @PathVariable("categoryId") Long categoryId,
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 20, sort = "id", direction = DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails me
     ) {
         Long userId = (me != null) ? me.getId() : null;
-        Page<ShortsResponse> response = shortsQueryService.getShortsByCategory(categoryId, pageable, userId);
+        Slice<ShortsResponse> response = shortsQueryService.getShortsByCategory(categoryId, pageable, userId, PageMode.fromValue(mode));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
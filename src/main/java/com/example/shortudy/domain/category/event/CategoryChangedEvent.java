@@ -0,0 +1,8 @@
+package com.example.shortudy.domain.category.event;
+
+/**
+ * 카테고리 변경 이벤트
+ * - 카테고리가 생성/삭제되었을 때 발행하며, 커밋 이후 카테고리 캐시 무효화에 사용한다.
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
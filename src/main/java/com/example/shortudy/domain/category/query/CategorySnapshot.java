@@ -0,0 +1,35 @@
+package com.example.shortudy.domain.category.query;
+
+import com.example.shortudy.domain.category.dto.response.CategoryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 카테고리 목록 불변 스냅샷
+ *
+ * @param version    카테고리 변경 버전 (Redis 카운터, 인스턴스 간 갱신 순서 판단용)
+ * @param categories 응답 목록 (불변)
+ * @param etag       목록 내용으로 만든 강한 ETag → 버전이 어긋난 인스턴스끼리도 내용이 같으면 같은 값
+ */
+public record CategorySnapshot(long version, List<CategoryResponse> categories, String etag) {
+
+    public static CategorySnapshot of(long version, List<CategoryResponse> categories) {
+        return new CategorySnapshot(version, List.copyOf(categories), etagOf(categories));
+    }
+
+    private static String etagOf(List<CategoryResponse> categories) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (CategoryResponse category : categories) {
+                digest.update((category.id() + ":" + category.name() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
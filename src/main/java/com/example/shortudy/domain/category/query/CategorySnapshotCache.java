@@ -0,0 +1,146 @@
+package com.example.shortudy.domain.category.query;
+
+import com.example.shortudy.domain.category.dto.response.CategoryResponse;
+import com.example.shortudy.domain.category.event.CategoryChangedEvent;
+import com.example.shortudy.domain.category.repository.CategoryRepository;
+import com.example.shortudy.global.cache.HibernateCacheEvictor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 카테고리 목록 스냅샷 캐시
+ * [배경]
+ * - 카테고리는 관리자 생성/삭제로만 바뀌지만, 목록 조회마다 findAll + DTO 변환을 하고 있었다.
+ * [동작 방식]
+ * 1. 최초 조회 시 DB에서 한 번 적재해 불변 스냅샷(목록 + ETag)으로 보관한다. 이후 조회는 DB를 타지 않는다.
+ * 2. 이 인스턴스에서 카테고리 변경이 커밋되면 스냅샷을 다시 만들고, Redis 버전을 올려 채널로 알린다.
+ * 3. 다른 인스턴스는 알림을 받으면(버전이 더 클 때만) 2차 캐시를 비우고 스냅샷을 다시 만든다.
+ * 4. Pub/Sub은 유실될 수 있으므로, 주기적으로 Redis 버전만 읽어 뒤처졌으면 다시 만든다.
+ * [주의]
+ * - 알림 직후 재적재는 복제 지연을 피하기 위해 쓰기 트랜잭션(primary)에서 읽는다.
+ */
+@Component
+public class CategorySnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshotCache.class);
+
+    public static final String CHANNEL = "category:snapshot:changed";
+    private static final String VERSION_KEY = "category:snapshot:version";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
+    private final TransactionTemplate primaryRead;
+
+    private volatile CategorySnapshot snapshot;
+
+    public CategorySnapshotCache(CategoryRepository categoryRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 HibernateCacheEvictor hibernateCacheEvictor,
+                                 PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.hibernateCacheEvictor = hibernateCacheEvictor;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+    }
+
+    public CategorySnapshot get() {
+        CategorySnapshot current = snapshot;
+        return current != null ? current : reload(currentVersion());
+    }
+
+    /**
+     * 이 인스턴스의 카테고리 변경 커밋 이후: 버전 증가 → 스냅샷 재생성 → 다른 인스턴스에 알림
+     * - 버전을 올리지 못하면 내용만 다시 읽고 버전은 Redis에서 읽은 값을 그대로 둔다.
+     *   (로컬에서 임의로 올리면 Redis 버전보다 앞서게 되어, 이후 다른 인스턴스의 변경을 checkVersion이 따라잡지 못한다)
+     */
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Long version;
+        try {
+            version = redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn("카테고리 버전 증가 실패 - 버전은 그대로 두고 스냅샷만 다시 만듭니다. categoryId={}", event.categoryId(), e);
+            version = null;
+        }
+        if (version == null) {
+            reload(currentVersion());
+            return;
+        }
+
+        reload(version);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 checkVersion 주기에 올라간 버전을 보고 따라온다.
+            log.warn("카테고리 변경 알림 실패 - categoryId={}", event.categoryId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 수신 (RedisSubscriptionStarter에서 연결)
+     */
+    public void onRemoteChanged(String message) {
+        long version;
+        try {
+            version = Long.parseLong(message.trim());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 카테고리 변경 알림 - message={}", message);
+            return;
+        }
+        if (version > snapshotVersion()) {
+            hibernateCacheEvictor.evictCategories();
+            reload(version);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${category.snapshot.version-check-interval-ms:60000}")
+    public void checkVersion() {
+        if (snapshot == null) {
+            return;
+        }
+        long version = currentVersion();
+        if (version > snapshotVersion()) {
+            hibernateCacheEvictor.evictCategories();
+            reload(version);
+        }
+    }
+
+    private synchronized CategorySnapshot reload(long version) {
+        CategorySnapshot current = snapshot;
+        if (current != null && current.version() > version) {
+            return current;
+        }
+        List<CategoryResponse> categories = primaryRead.execute(status -> categoryRepository.findAll().stream()
+                .map(CategoryResponse::of)
+                .toList());
+        CategorySnapshot loaded = CategorySnapshot.of(version, categories);
+        snapshot = loaded;
+        log.debug("카테고리 스냅샷 적재 완료 - version={}, size={}", version, categories.size());
+        return loaded;
+    }
+
+    private long snapshotVersion() {
+        CategorySnapshot current = snapshot;
+        return current != null ? current.version() : 0L;
+    }
+
+    private long currentVersion() {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (DataAccessException e) {
+            log.warn("카테고리 스냅샷 버전 조회 실패", e);
+            return snapshotVersion();
+        }
+    }
+}
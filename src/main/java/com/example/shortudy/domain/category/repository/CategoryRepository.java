@@ -1,14 +1,26 @@
 package com.example.shortudy.domain.category.repository;
 
 import com.example.shortudy.domain.category.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    /**
+     * 카테고리 전체 조회 (쿼리 캐시)
+     * - 결과 id 목록은 쿼리 캐시에, 엔티티는 category 2차 캐시 리전에서 가져온다.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
+
     /**
      * 카테고리명 존재 여부 확인
      */
@@ -3,9 +3,13 @@ package com.example.shortudy.domain.category.service;
 import com.example.shortudy.domain.category.dto.request.CategoryRequest;
 import com.example.shortudy.domain.category.dto.response.CategoryResponse;
 import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.category.event.CategoryChangedEvent;
+import com.example.shortudy.domain.category.query.CategorySnapshot;
+import com.example.shortudy.domain.category.query.CategorySnapshotCache;
 import com.example.shortudy.domain.category.repository.CategoryRepository;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +20,13 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategorySnapshotCache categorySnapshotCache;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher, CategorySnapshotCache categorySnapshotCache) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.categorySnapshotCache = categorySnapshotCache;
     }
 
     @Transactional  // 쓰기 작업은 readOnly=false
@@ -29,6 +37,7 @@ public class CategoryService {
         }
 
         Category created = categoryRepository.save(new Category(request.name()));
+        eventPublisher.publishEvent(new CategoryChangedEvent(created.getId()));
         return CategoryResponse.of(created);
     }
 
@@ -40,11 +49,16 @@ public class CategoryService {
 //    }
 
     // TODO : 백오피스를 고려하면 status가 ACTIVE인 카테고리만 조회하는 기능이 필요할 수도 있음.
+    // 불변 스냅샷에서 조회 (관리자 변경 커밋 이후에만 다시 적재, DB 조회 없음)
     public List<CategoryResponse> readAllCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(CategoryResponse::of)
-                .toList();
+        return categorySnapshotCache.get().categories();
+    }
+
+    /**
+     * 카테고리 목록 스냅샷 (ETag 포함) - 조건부 요청(If-None-Match) 처리용
+     */
+    public CategorySnapshot readCategorySnapshot() {
+        return categorySnapshotCache.get();
     }
 
     // TODO : 백오피스를 고려하면 status가 ACTIVE/INACTIVE로 변경되는 기능이 필요할 수도 있음.
@@ -54,6 +68,7 @@ public class CategoryService {
                 () -> new BaseException(ErrorCode.CATEGORY_NOT_FOUND)
         );
         categoryRepository.delete(toErase);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     // TODO : 카테고리 수정 API를 사용하지 않으므로 주석 처리
@@ -4,17 +4,18 @@ import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -25,10 +26,16 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "comment", indexes = {
+        // 숏츠별 댓글 목록/개수: shorts_id + parent_id IS NULL + status, created_at 순서
+        @Index(name = "idx_comment_shorts_parent_created", columnList = "shorts_id, parent_id, status, created_at"),
+        // 대댓글 목록/개수
+        @Index(name = "idx_comment_parent_status_created", columnList = "parent_id, status, created_at")
+})
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.example.shortudy.domain.comment.entity;
 
 
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -22,7 +23,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class CommentReport {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,54 @@
+package com.example.shortudy.domain.comment.scheduler;
+
+import com.example.shortudy.domain.comment.service.CommentCountReconcileService;
+import com.example.shortudy.global.lock.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class CommentCountReconcileScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentCountReconcileScheduler.class);
+
+    private static final String LOCK_NAME = "shorts:comment-count:reconcile";
+    // 인스턴스 간 시계 오차로 조금 늦게 실행되는 인스턴스가 다시 보정하지 않도록 락을 유지할 시간
+    private static final Duration LOCK_MIN_HOLD = Duration.ofMinutes(10);
+
+    private final CommentCountReconcileService commentCountReconcileService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${shorts.comment-count.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    public CommentCountReconcileScheduler(CommentCountReconcileService commentCountReconcileService, SchedulerLock schedulerLock) {
+        this.commentCountReconcileService = commentCountReconcileService;
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 하루 1회, 숏츠 comment_count를 실제 댓글 수와 맞춘다. (id 구간별로 나누어 보정, 락을 얻은 인스턴스 한 곳에서만)
+    @Scheduled(cron = "${shorts.comment-count.reconcile.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcileCommentCounts() {
+        schedulerLock.runExclusively(LOCK_NAME, LOCK_MIN_HOLD, this::reconcile);
+    }
+
+    private void reconcile(SchedulerLock.Lease lease) {
+        long afterId = 0L;
+        int fixedCount = 0;
+
+        List<Long> ids;
+        while (lease.isHeld() && !(ids = commentCountReconcileService.findIdChunk(afterId, chunkSize)).isEmpty()) {
+            afterId = ids.get(ids.size() - 1);
+            fixedCount += commentCountReconcileService.reconcileRange(ids.get(0), afterId);
+        }
+
+        if (fixedCount > 0) {
+            log.info("숏츠 댓글 수 정합성 보정 완료 - fixedCount={}, lastId={}", fixedCount, afterId);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.shortudy.domain.comment.service;
+
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 숏츠 comment_count 정합성 보정 서비스
+ * [배경]
+ * - comment_count는 댓글 작성/삭제 시 증감으로 유지되므로, 장애나 수동 데이터 수정 시 실제 값과 어긋날 수 있다.
+ * [동작 방식]
+ * - 실제 id를 chunk-size개씩 끊은 구간 단위로 나누어 각 구간을 별도 트랜잭션에서 보정한다. (긴 트랜잭션/대량 잠금 방지)
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommentCountReconcileService {
+
+    private final ShortsRepository shortsRepository;
+
+    public CommentCountReconcileService(ShortsRepository shortsRepository) {
+        this.shortsRepository = shortsRepository;
+    }
+
+    /**
+     * afterId 다음 숏츠 id를 최대 size개 조회한다. (구간 분할용)
+     */
+    public List<Long> findIdChunk(long afterId, int size) {
+        return shortsRepository.findIdsAfter(afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * [fromId, toId] 구간의 comment_count를 실제 ACTIVE 댓글 수로 보정한다.
+     * @return 보정된 숏츠 수
+     */
+    @Transactional
+    public int reconcileRange(long fromId, long toId) {
+        return shortsRepository.reconcileCommentCount(fromId, toId);
+    }
+}
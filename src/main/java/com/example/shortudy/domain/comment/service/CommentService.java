@@ -12,14 +12,17 @@ import com.example.shortudy.domain.comment.query.CommentCountProvider;
 import com.example.shortudy.domain.comment.repository.CommentReportRepository;
 import com.example.shortudy.domain.comment.repository.CommentRepository;
 import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.domain.shorts.event.ShortsEngagementEvent;
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
 import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.domain.user.repository.UserRepository;
+import com.example.shortudy.domain.user.repository.UserSummaryRepository;
 import com.example.shortudy.global.config.S3Service;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,29 +36,33 @@ public class CommentService {
     private final CommentReportRepository commentReportRepository;
     private final ShortsRepository shortsRepository;
     private final UserRepository userRepository;
+    private final UserSummaryRepository userSummaryRepository;
     private final CommentCountProvider commentCountProvider;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentService(CommentRepository commentRepository, CommentReportRepository commentReportRepository,ShortsRepository shortsRepository, UserRepository userRepository, CommentCountProvider commentCountProvider, S3Service s3Service) {
+    public CommentService(CommentRepository commentRepository, CommentReportRepository commentReportRepository,ShortsRepository shortsRepository, UserRepository userRepository, UserSummaryRepository userSummaryRepository, CommentCountProvider commentCountProvider, S3Service s3Service, ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.commentReportRepository = commentReportRepository;
         this.shortsRepository = shortsRepository;
         this.userRepository = userRepository;
+        this.userSummaryRepository = userSummaryRepository;
         this.commentCountProvider = commentCountProvider;
         this.s3Service = s3Service;
+        this.eventPublisher = eventPublisher;
     }
 
     // 댓글 생성
     @Transactional
     public void createComment(Long userId, Long shortsId, CommentRequest request) {
 
-        User user = userRepository.findById(userId).orElseThrow(() ->
-                new BaseException(ErrorCode.USER_NOT_FOUND));
+        User user = findUserReference(userId);
 
         Shorts shorts = shortsRepository.findById(shortsId).orElseThrow(() ->
                 new BaseException(ErrorCode.SHORTS_NOT_FOUND));
 
         commentRepository.save(Comment.create(user, shorts, request.content()));
+        changeCommentCount(shorts, 1);
     }
 
     // 댓글 조회
@@ -140,15 +147,28 @@ public class CommentService {
             throw new BaseException(ErrorCode.COMMENT_FORBIDDEN);
         }
 
+        // 실제로 ACTIVE → DELETED로 바뀐 댓글 수 (이미 삭제된 댓글은 카운트에서 다시 빼지 않는다)
+        long deletedCount = 0;
+
         // 부모 댓글 삭제 시 대댓글도 일괄 삭제
         if (comment.getParent() == null) {
             List<Comment> replies = commentRepository.findAllByParentId(commentId);
             for (Comment reply : replies) {
+                if (reply.getStatus() == CommentStatus.ACTIVE) {
+                    deletedCount++;
+                }
                 reply.softDelete(reply.getUser().getId()); // 대댓글 작성자 권한으로 삭제 처리 (혹은 강제 삭제)
             }
         }
 
+        if (comment.getStatus() == CommentStatus.ACTIVE) {
+            deletedCount++;
+        }
         comment.softDelete(userId);
+
+        if (deletedCount > 0) {
+            changeCommentCount(comment.getShorts(), -deletedCount);
+        }
     }
 
     // TODO : 대댓글 삭제 메서드 분리
@@ -169,21 +189,25 @@ public class CommentService {
             throw new BaseException(ErrorCode.COMMENT_NOT_FOUND);
         }
 
+        if (comment.getStatus() == CommentStatus.DELETED) {
+            return;
+        }
 
         comment.softDelete(userId);
+        changeCommentCount(comment.getShorts(), -1);
     }
 
     // 대댓글 생성
     @Transactional
     public void createReply(Long userId, Long parentId, CommentRequest request) {
 
-        User user = userRepository.findById(userId).orElseThrow(() ->
-                new BaseException(ErrorCode.USER_NOT_FOUND));
+        User user = findUserReference(userId);
 
         Comment parent = commentRepository.findById(parentId).orElseThrow(() ->
                 new BaseException(ErrorCode.COMMENT_NOT_FOUND));
 
         commentRepository.save(Comment.reply(user, parent, request.content()));
+        changeCommentCount(parent.getShorts(), 1);
     }
 
     // 대댓글 조회
@@ -235,6 +259,19 @@ public class CommentService {
         commentReportRepository.save(commentReport);
     }
 
+    // 사용자 존재 확인은 요약 2차 캐시로 하고, 댓글 작성자 연관관계에는 프록시 참조만 사용한다.
+    private User findUserReference(Long userId) {
+        userSummaryRepository.findById(userId).orElseThrow(() ->
+                new BaseException(ErrorCode.USER_NOT_FOUND));
+        return userRepository.getReferenceById(userId);
+    }
+
+    // 숏츠 comment_count 증감 + 참여 지표 변경 이벤트 발행 (커밋 이후 인기 점수/리더보드 갱신)
+    private void changeCommentCount(Shorts shorts, long delta) {
+        shortsRepository.increaseCommentCount(shorts.getId(), delta);
+        eventPublisher.publishEvent(ShortsEngagementEvent.comment(shorts.getId(), shorts.getCategory().getId(), delta));
+    }
+
 //    private CommentResponse toCommentResponse(Long meIdOrNull, Comment comment, Map<Long, Long> replyCountMap) {
 //        long replyCount = replyCountMap.getOrDefault(comment.getId(), 0L);
 //        return CommentResponse.from(meIdOrNull, comment, replyCount);
@@ -1,10 +1,15 @@
 package com.example.shortudy.domain.keyword.entity;
 
+import com.example.shortudy.global.cache.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.KEYWORD_REGION)
 @Table(name = "keyword")
 public class Keyword {
 
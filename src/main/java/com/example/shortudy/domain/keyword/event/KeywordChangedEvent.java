@@ -0,0 +1,8 @@
+package com.example.shortudy.domain.keyword.event;
+
+/**
+ * 키워드 변경 이벤트
+ * - 키워드가 생성/수정/삭제되었을 때 발행하며, 키워드 사전 갱신에 사용한다.
+ */
+public record KeywordChangedEvent(Long keywordId) {
+}
@@ -0,0 +1,126 @@
+package com.example.shortudy.domain.keyword.query;
+
+import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.keyword.event.KeywordChangedEvent;
+import com.example.shortudy.domain.keyword.repository.KeywordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 애플리케이션 전역 키워드 사전 (keywordId → displayName / normalizedName)
+ * [배경]
+ * - 키워드는 수가 적고 거의 바뀌지 않지만, 목록 조회마다 Keyword를 조인해 이름을 읽고 있었다.
+ * - 목록에서는 shorts_keyword의 (숏츠 ID, 키워드 ID)만 조회하고, 이름은 이 사전에서 채운다.
+ * [갱신 방식]
+ * 1. 최초 사용 시 전체 키워드를 한 번 적재한다.
+ * 2. KeywordService의 생성/수정/삭제 커밋 이후 전체를 다시 적재한다.
+ * 3. 사전에 없는 ID가 조회되면(다른 인스턴스에서 생성 등) 해당 ID만 DB에서 보충한다.
+ * 4. 다른 인스턴스의 수정/삭제를 반영하기 위해 주기적으로 전체를 다시 적재한다.
+ */
+@Component
+public class KeywordDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(KeywordDictionary.class);
+
+    private final KeywordRepository keywordRepository;
+
+    // 갱신 시 통째로 교체하는 불변 스냅샷 (읽기 경로는 락 없이 조회)
+    private volatile Map<Long, Entry> entries;
+
+    public KeywordDictionary(KeywordRepository keywordRepository) {
+        this.keywordRepository = keywordRepository;
+    }
+
+    /**
+     * 주어진 키워드 ID들의 사전 항목을 반환합니다. 사전에 없는 ID는 DB에서 보충합니다.
+     */
+    public Map<Long, Entry> findAll(Collection<Long> keywordIds) {
+        Map<Long, Entry> snapshot = snapshot();
+
+        Set<Long> missing = new HashSet<>();
+        for (Long id : keywordIds) {
+            if (!snapshot.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return snapshot;
+        }
+        return supplement(missing);
+    }
+
+    /**
+     * 키워드 변경 커밋 이후 사전을 다시 적재한다.
+     */
+    @TransactionalEventListener
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${keyword.dictionary.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (entries != null) {
+            reload();
+        }
+    }
+
+    private Map<Long, Entry> snapshot() {
+        Map<Long, Entry> current = entries;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 사전에 없는 ID를 DB에서 보충한다.
+     * - reload()와 같은 락 안에서 최신 스냅샷을 다시 읽어 병합한다. → 오래된 스냅샷으로 새로 적재된 사전을 덮어쓰지 않도록
+     */
+    private synchronized Map<Long, Entry> supplement(Set<Long> missing) {
+        Map<Long, Entry> current = entries;
+        Set<Long> stillMissing = new HashSet<>();
+        for (Long id : missing) {
+            if (!current.containsKey(id)) {
+                stillMissing.add(id);
+            }
+        }
+        if (stillMissing.isEmpty()) {
+            return current;
+        }
+
+        Map<Long, Entry> merged = new HashMap<>(current);
+        for (Keyword keyword : keywordRepository.findAllById(stillMissing)) {
+            merged.put(keyword.getId(), Entry.from(keyword));
+        }
+        Map<Long, Entry> updated = Map.copyOf(merged);
+        entries = updated;
+        return updated;
+    }
+
+    private synchronized Map<Long, Entry> reload() {
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (Keyword keyword : keywordRepository.findAll()) {
+            loaded.put(keyword.getId(), Entry.from(keyword));
+        }
+        Map<Long, Entry> updated = Map.copyOf(loaded);
+        entries = updated;
+        log.debug("키워드 사전 적재 완료 - size={}", updated.size());
+        return updated;
+    }
+
+    /**
+     * 사전 항목
+     */
+    public record Entry(String displayName, String normalizedName) {
+
+        static Entry from(Keyword keyword) {
+            return new Entry(keyword.getDisplayName(), keyword.getNormalizedName());
+        }
+    }
+}
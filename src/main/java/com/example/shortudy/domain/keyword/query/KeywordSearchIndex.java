@@ -0,0 +1,431 @@
+package com.example.shortudy.domain.keyword.query;
+
+import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.keyword.event.KeywordChangedEvent;
+import com.example.shortudy.domain.keyword.repository.KeywordRepository;
+import com.example.shortudy.domain.keyword.util.HangulJamo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 키워드 자동완성 인덱스 (메모리)
+ * [배경]
+ * - 기존 검색은 displayName/normalizedName에 '%q%' LIKE를 걸어 키 입력마다 keyword 테이블 전체를 스캔했다.
+ * [구조]
+ * 1. 키워드를 사용량(해당 키워드를 단 숏츠 수) 내림차순으로 정렬해 순위 = 배열 인덱스로 둔다.
+ * 2. 접두사 트라이: normalizedName을 삽입하면서 각 노드에 상위 K개 순위를 기록한다. (순위 순으로 삽입하므로 앞에서 K개만 담으면 된다)
+ * 3. n-gram 인덱스: normalizedName의 1-gram/2-gram → 순위 목록(오름차순). 부분 일치 후보를 목록 교집합으로 구한다.
+ * 4. 트라이와 n-gram은 HangulJamo로 푼 자모 표기와 초성 표기 두 벌을 만든다. → 입력 중인 낱자/초성 검색 지원
+ * [검색]
+ * - 초성 일치 → 접두사 일치 → 부분 일치 → 오타 허용(자모 편집 거리) 순으로 채운다. 결과는 최대 K개로 제한한다.
+ * [갱신 방식]
+ * 1. 최초 사용 시 전체 키워드와 사용량을 적재한다.
+ * 2. KeywordService의 생성/수정/삭제 커밋 이후 변경된 키워드 하나만 DB에서 읽어 반영한다.
+ * 3. 사용량과 다른 인스턴스의 변경을 반영하기 위해 주기적으로 전체를 다시 적재한다.
+ */
+@Component
+public class KeywordSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(KeywordSearchIndex.class);
+
+    // 트라이 노드마다 보관하는 상위 순위 수 (검색 limit 상한)
+    static final int MAX_TOP_K = 50;
+
+    // 오타 허용 검색을 시도하는 최소 자모 길이 (한두 글자는 편집 1회로도 거의 모든 키워드와 가까워진다)
+    private static final int FUZZY_MIN_LENGTH = 4;
+
+    private final KeywordRepository keywordRepository;
+    private final int defaultLimit;
+
+    // 갱신 시 통째로 교체하는 불변 스냅샷 (읽기 경로는 락 없이 조회)
+    private volatile Snapshot snapshot;
+
+    public KeywordSearchIndex(KeywordRepository keywordRepository,
+                              @Value("${keyword.search.max-results:10}") int defaultLimit) {
+        this.keywordRepository = keywordRepository;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public List<Entry> search(String normalizedQuery) {
+        return search(normalizedQuery, defaultLimit);
+    }
+
+    /**
+     * 정규화된 검색어로 키워드를 찾습니다.
+     * [순서]
+     * 1. 초성 검색어("ㅈㅂ")면 초성 색인의 접두사/부분 일치
+     * 2. 자모 색인의 접두사 일치 → 부분 일치 ("자ㅂ", "잡"도 "자바"의 접두사로 본다)
+     * 3. 그래도 모자라면 자모 단위 편집 거리로 오타를 허용한 접두사 일치
+     *
+     * @param normalizedQuery KeywordNormalizer로 정규화하고 공백을 제거한 검색어
+     * @param limit           최대 결과 수 (MAX_TOP_K를 넘지 않음)
+     * @return 위 순서대로, 각 단계 안에서는 사용량 내림차순
+     */
+    public List<Entry> search(String normalizedQuery, int limit) {
+        if (normalizedQuery == null || normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = currentSnapshot();
+        int k = Math.min(limit, MAX_TOP_K);
+
+        Set<Integer> ranks = new LinkedHashSet<>();
+        if (HangulJamo.isChoseongOnly(normalizedQuery)) {
+            String choseongQuery = HangulJamo.toChoseong(normalizedQuery);
+            current.choseong.collectPrefix(choseongQuery, k, ranks);
+            current.choseong.collectSubstring(choseongQuery, k, ranks);
+        }
+
+        String jamoQuery = HangulJamo.toJamo(normalizedQuery);
+        current.jamo.collectPrefix(jamoQuery, k, ranks);
+        if (ranks.size() < k) {
+            current.jamo.collectSubstring(jamoQuery, k, ranks);
+        }
+        if (ranks.size() < k && jamoQuery.length() >= FUZZY_MIN_LENGTH) {
+            current.jamo.collectFuzzy(jamoQuery, maxDistance(jamoQuery), k, ranks);
+        }
+
+        List<Entry> result = new ArrayList<>(ranks.size());
+        for (int rank : ranks) {
+            result.add(current.ranked[rank]);
+        }
+        return result;
+    }
+
+    // 짧은 검색어에 오타를 허용하면 무관한 결과가 섞이므로, 자모 길이에 따라 허용 거리를 정한다.
+    private static int maxDistance(String jamoQuery) {
+        return jamoQuery.length() >= 8 ? 2 : 1;
+    }
+
+    /**
+     * 키워드 변경 커밋 이후 해당 키워드만 다시 읽어 인덱스에 반영한다.
+     */
+    @TransactionalEventListener
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        if (snapshot != null) {
+            apply(event.keywordId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${keyword.search.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (snapshot != null) {
+            reload();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized void apply(Long keywordId) {
+        Snapshot current = snapshot;
+        Map<Long, Entry> entries = new HashMap<>();
+        for (Entry entry : current.ranked) {
+            entries.put(entry.id(), entry);
+        }
+
+        // 삭제되었으면 빠지고, 생성/수정이면 기존 사용량을 유지한 채 이름만 바뀐다.
+        Entry previous = entries.remove(keywordId);
+        long usageCount = previous != null ? previous.usageCount() : 0L;
+        keywordRepository.findById(keywordId)
+                .ifPresent(keyword -> entries.put(keywordId, Entry.from(keyword, usageCount)));
+
+        snapshot = Snapshot.build(entries.values());
+    }
+
+    private synchronized Snapshot reload() {
+        Map<Long, Long> usage = new HashMap<>();
+        for (KeywordRepository.KeywordUsageProjection row : keywordRepository.countUsages()) {
+            usage.put(row.getKeywordId(), row.getUsageCount());
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Keyword keyword : keywordRepository.findAll()) {
+            entries.add(Entry.from(keyword, usage.getOrDefault(keyword.getId(), 0L)));
+        }
+        Snapshot loaded = Snapshot.build(entries);
+        snapshot = loaded;
+        log.debug("키워드 검색 인덱스 적재 완료 - size={}", loaded.ranked.length);
+        return loaded;
+    }
+
+    /**
+     * 인덱스 항목
+     */
+    public record Entry(Long id, String displayName, String normalizedName, long usageCount) {
+
+        static Entry from(Keyword keyword, long usageCount) {
+            return new Entry(keyword.getId(), keyword.getDisplayName(), keyword.getNormalizedName(), usageCount);
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (순위 배열 + 자모 색인 + 초성 색인)
+     */
+    private static final class Snapshot {
+
+        private static final Comparator<Entry> RANK_ORDER = Comparator
+                .comparingLong(Entry::usageCount).reversed()
+                .thenComparing(Entry::normalizedName);
+
+        private final Entry[] ranked;
+        private final TextIndex jamo;
+        private final TextIndex choseong;
+
+        private Snapshot(Entry[] ranked, TextIndex jamo, TextIndex choseong) {
+            this.ranked = ranked;
+            this.jamo = jamo;
+            this.choseong = choseong;
+        }
+
+        static Snapshot build(Iterable<Entry> entries) {
+            List<Entry> list = new ArrayList<>();
+            entries.forEach(list::add);
+            list.sort(RANK_ORDER);
+            Entry[] ranked = list.toArray(Entry[]::new);
+
+            String[] jamoKeys = new String[ranked.length];
+            String[] choseongKeys = new String[ranked.length];
+            for (int rank = 0; rank < ranked.length; rank++) {
+                jamoKeys[rank] = HangulJamo.toJamo(ranked[rank].normalizedName());
+                choseongKeys[rank] = HangulJamo.toChoseong(ranked[rank].normalizedName());
+            }
+            return new Snapshot(ranked, TextIndex.build(jamoKeys), TextIndex.build(choseongKeys));
+        }
+    }
+
+    /**
+     * 키 배열(순위 순) 하나에 대한 접두사 트라이 + n-gram 목록
+     */
+    private static final class TextIndex {
+
+        private final String[] keys;
+        private final TrieNode root;
+        private final Map<String, int[]> grams;
+
+        private TextIndex(String[] keys, TrieNode root, Map<String, int[]> grams) {
+            this.keys = keys;
+            this.root = root;
+            this.grams = grams;
+        }
+
+        static TextIndex build(String[] keys) {
+            TrieNode root = new TrieNode();
+            Map<String, IntList> postings = new HashMap<>();
+            for (int rank = 0; rank < keys.length; rank++) {
+                root.insert(keys[rank], rank);
+                for (String gram : gramsOf(keys[rank])) {
+                    postings.computeIfAbsent(gram, key -> new IntList()).add(rank);
+                }
+            }
+            root.freeze();
+
+            Map<String, int[]> grams = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, ranks) -> grams.put(gram, ranks.toArray()));
+            return new TextIndex(keys, root, grams);
+        }
+
+        void collectPrefix(String query, int k, Set<Integer> out) {
+            TrieNode node = root.find(query);
+            if (node == null) {
+                return;
+            }
+            for (int i = 0; i < node.top.length && out.size() < k; i++) {
+                out.add(node.top[i]);
+            }
+        }
+
+        /**
+         * 검색어의 모든 gram 목록의 교집합을 순위 순으로 훑으며, 실제 포함 여부를 확인해 채운다.
+         */
+        void collectSubstring(String query, int k, Set<Integer> out) {
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : queryGramsOf(query)) {
+                int[] ranks = grams.get(gram);
+                if (ranks == null) {
+                    return;
+                }
+                lists.add(ranks);
+            }
+            lists.sort(Comparator.comparingInt(ranks -> ranks.length));
+
+            int[] shortest = lists.get(0);
+            for (int rank : shortest) {
+                if (out.size() >= k) {
+                    return;
+                }
+                if (out.contains(rank) || !containsInAll(lists, rank)) {
+                    continue;
+                }
+                if (keys[rank].contains(query)) {
+                    out.add(rank);
+                }
+            }
+        }
+
+        /**
+         * 오타 허용 접두사 검색
+         * 1. q-gram 필터: 편집 1회는 2-gram을 최대 2개 깨뜨리므로, 공유 2-gram 수가 (검색어 2-gram 수 - 2 * maxDistance) 이상인 후보만 남긴다.
+         * 2. 후보마다 "검색어 ↔ 키의 접두사" 편집 거리를 계산해 maxDistance 이하만 순위 순으로 채운다.
+         */
+        void collectFuzzy(String query, int maxDistance, int k, Set<Integer> out) {
+            Set<String> queryGrams = queryGramsOf(query);
+            int required = Math.max(1, queryGrams.size() - 2 * maxDistance);
+
+            Map<Integer, Integer> shared = new HashMap<>();
+            for (String gram : queryGrams) {
+                int[] ranks = grams.get(gram);
+                if (ranks != null) {
+                    for (int rank : ranks) {
+                        shared.merge(rank, 1, Integer::sum);
+                    }
+                }
+            }
+
+            int[] candidates = shared.entrySet().stream()
+                    .filter(e -> e.getValue() >= required && !out.contains(e.getKey()))
+                    .mapToInt(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+            for (int rank : candidates) {
+                if (out.size() >= k) {
+                    return;
+                }
+                if (prefixDistance(query, keys[rank], maxDistance) <= maxDistance) {
+                    out.add(rank);
+                }
+            }
+        }
+
+        private static boolean containsInAll(List<int[]> lists, int rank) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (Arrays.binarySearch(lists.get(i), rank) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 검색어와 key의 모든 접두사 사이 편집 거리의 최솟값 (maxDistance를 넘으면 조기 종료)
+         */
+        private static int prefixDistance(String query, String key, int maxDistance) {
+            int[] prev = new int[key.length() + 1];
+            int[] curr = new int[key.length() + 1];
+            for (int j = 0; j <= key.length(); j++) {
+                prev[j] = j;
+            }
+            for (int i = 1; i <= query.length(); i++) {
+                curr[0] = i;
+                int rowMin = curr[0];
+                for (int j = 1; j <= key.length(); j++) {
+                    int cost = query.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+                    curr[j] = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                    rowMin = Math.min(rowMin, curr[j]);
+                }
+                if (rowMin > maxDistance) {
+                    return rowMin;
+                }
+                int[] tmp = prev;
+                prev = curr;
+                curr = tmp;
+            }
+            int best = Integer.MAX_VALUE;
+            for (int value : prev) {
+                best = Math.min(best, value);
+            }
+            return best;
+        }
+
+        // 색인: 1-gram(한 글자 검색용) + 2-gram
+        private static Set<String> gramsOf(String key) {
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = 0; i < key.length(); i++) {
+                result.add(key.substring(i, i + 1));
+                if (i + 1 < key.length()) {
+                    result.add(key.substring(i, i + 2));
+                }
+            }
+            return result;
+        }
+
+        // 검색: 한 글자면 1-gram, 그 외에는 2-gram 전체
+        private static Set<String> queryGramsOf(String query) {
+            if (query.length() == 1) {
+                return Set.of(query);
+            }
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = 0; i + 1 < query.length(); i++) {
+                result.add(query.substring(i, i + 2));
+            }
+            return result;
+        }
+    }
+
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private IntList building = new IntList();
+        private int[] top = new int[0];
+
+        // 순위 오름차순으로 호출되므로, 경로상의 노드는 앞에서부터 MAX_TOP_K개만 담으면 상위 K개가 된다.
+        void insert(String word, int rank) {
+            TrieNode node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+                if (node.building.size() < MAX_TOP_K) {
+                    node.building.add(rank);
+                }
+            }
+        }
+
+        TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        void freeze() {
+            top = building.toArray();
+            building = null;
+            children.values().forEach(TrieNode::freeze);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
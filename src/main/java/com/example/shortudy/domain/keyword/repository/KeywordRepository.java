@@ -1,20 +1,38 @@
 package com.example.shortudy.domain.keyword.repository;
 
 import com.example.shortudy.domain.keyword.entity.Keyword;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
-    @Query("select k from Keyword k where " +
-            "lower(k.displayName) like lower(concat('%', :keyword1, '%')) " +
-            "or lower(k.normalizedName) like lower(concat('%', :keyword2, '%'))")
-    List<Keyword> searchKeyword(@Param("keyword1") String keyword1,
-                                @Param("keyword2") String keyword2);
-
+    // 키워드 생성/수정 중복 확인 경로 - 쿼리 캐시 사용
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Keyword> findByNormalizedName(String normalizedName);
+
+    // 키워드 일괄 검증(resolveKeywords) 경로 - 요청 키워드 전체를 IN 쿼리 1회로 조회, 쿼리 캐시 사용
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Keyword> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+    /**
+     * [키워드 사용량 집계]
+     * 키워드별로 해당 키워드를 단 숏츠 수를 셉니다. 자동완성 순위(KeywordSearchIndex)에 사용합니다.
+     */
+    @Query("SELECT sk.keyword.id AS keywordId, COUNT(sk.id) AS usageCount " +
+            "FROM ShortsKeyword sk " +
+            "GROUP BY sk.keyword.id")
+    List<KeywordUsageProjection> countUsages();
+
+    interface KeywordUsageProjection {
+        Long getKeywordId();
+
+        Long getUsageCount();
+    }
 }
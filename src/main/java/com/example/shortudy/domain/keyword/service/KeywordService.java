@@ -2,15 +2,23 @@ package com.example.shortudy.domain.keyword.service;
 
 import com.example.shortudy.domain.keyword.dto.response.KeywordResponse;
 import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.keyword.event.KeywordChangedEvent;
+import com.example.shortudy.domain.keyword.query.KeywordSearchIndex;
 import com.example.shortudy.domain.keyword.repository.KeywordRepository;
 import com.example.shortudy.domain.keyword.util.KeywordNormalizer;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,9 +26,13 @@ import java.util.stream.Collectors;
 public class KeywordService {
 
     private final KeywordRepository keywordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeywordSearchIndex keywordSearchIndex;
 
-    public KeywordService(KeywordRepository keywordRepository) {
+    public KeywordService(KeywordRepository keywordRepository, ApplicationEventPublisher eventPublisher, KeywordSearchIndex keywordSearchIndex) {
         this.keywordRepository = keywordRepository;
+        this.eventPublisher = eventPublisher;
+        this.keywordSearchIndex = keywordSearchIndex;
     }
 
     public List<KeywordResponse> getAllKeywords() {
@@ -52,10 +64,9 @@ public class KeywordService {
 
         String normalizedNoSpace = normalizedForSearch.replaceAll("\\s+", "");
 
-        List<Keyword> keywords = keywordRepository.searchKeyword(trimmed, normalizedNoSpace);
-
-        return keywords.stream()
-                .map(this::toResponse)
+        // 메모리 인덱스(접두사 트라이 + n-gram)에서 사용량 상위 K개만 조회
+        return keywordSearchIndex.search(normalizedNoSpace).stream()
+                .map(entry -> new KeywordResponse(entry.id(), entry.displayName(), entry.normalizedName()))
                 .collect(Collectors.toList());
     }
 
@@ -74,6 +85,7 @@ public class KeywordService {
 
         Keyword keyword = new Keyword(displayName, normalized);
         Keyword savedKeyword = keywordRepository.save(keyword);
+        eventPublisher.publishEvent(new KeywordChangedEvent(savedKeyword.getId()));
         return toResponse(savedKeyword);
     }
 
@@ -95,6 +107,7 @@ public class KeywordService {
 
         existing.updateName(displayName, normalized);
         Keyword saved = keywordRepository.save(existing);
+        eventPublisher.publishEvent(new KeywordChangedEvent(id));
         return toResponse(saved);
     }
 
@@ -104,18 +117,48 @@ public class KeywordService {
             throw new BaseException(ErrorCode.KEYWORD_NOT_FOUND);
         }
         keywordRepository.deleteById(id);
+        eventPublisher.publishEvent(new KeywordChangedEvent(id));
     }
 
+    /**
+     * 키워드 일괄 검증
+     * [동작]
+     * 1. 입력 키워드를 정규화하고, 정규화 결과가 같은 키워드는 하나로 합친다. (입력 순서 유지)
+     * 2. 정규화된 이름 전체를 IN 쿼리 1회로 조회한다. (쿼리 캐시 키가 입력 순서에 따라 갈리지 않도록 정렬해서 전달)
+     * 3. 존재하지 않는 키워드가 있으면 누락된 키워드를 모두 메시지에 담아 KEYWORD_NOT_FOUND를 던진다.
+     *
+     * @return 입력 순서대로 정렬된 (중복 없는) 키워드 목록
+     */
     @Transactional(readOnly = true)
-    public Keyword getValidKeyword(String displayName) {
-        String normalized = KeywordNormalizer.normalize(displayName);
+    public List<Keyword> resolveKeywords(Collection<String> displayNames) {
+        if (displayNames == null || displayNames.isEmpty()) {
+            return List.of();
+        }
 
-        if (normalized == null || normalized.isBlank()) {
-            throw new BaseException(ErrorCode.INVALID_INPUT);
+        // 정규화 이름 -> 사용자가 입력한 원본 (에러 메시지용)
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String displayName : displayNames) {
+            String normalized = KeywordNormalizer.normalize(displayName);
+            if (normalized == null || normalized.isBlank()) {
+                throw new BaseException(ErrorCode.INVALID_INPUT);
+            }
+            requested.putIfAbsent(normalized, displayName);
+        }
+
+        Map<String, Keyword> found = keywordRepository.findByNormalizedNameIn(new TreeSet<>(requested.keySet())).stream()
+                .collect(Collectors.toMap(Keyword::getNormalizedName, Function.identity()));
+
+        List<String> missing = requested.entrySet().stream()
+                .filter(entry -> !found.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new BaseException(ErrorCode.KEYWORD_NOT_FOUND, "존재하지 않는 키워드입니다: " + String.join(", ", missing));
         }
 
-        return keywordRepository.findByNormalizedName(normalized)
-                .orElseThrow(() -> new BaseException(ErrorCode.KEYWORD_NOT_FOUND, "존재하지 않는 키워드입니다: " + displayName));
+        return requested.keySet().stream()
+                .map(found::get)
+                .toList();
     }
 
     private KeywordResponse toResponse(Keyword k) {
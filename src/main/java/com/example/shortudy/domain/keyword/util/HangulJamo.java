@@ -0,0 +1,123 @@
+package com.example.shortudy.domain.keyword.util;
+
+/**
+ * 한글 자모 분해 유틸
+ * [배경]
+ * - KeywordNormalizer의 NFD는 음절을 조합형 자모(U+1100~)로 나누지만, 사용자가 입력 중인 낱자(ㅂ)는
+ *   호환 자모(U+3131~)라서 "자ㅂ"과 "자바"가 서로 이어지지 않는다.
+ * [규칙]
+ * 1. 완성형 음절, 조합형 자모, 호환 자모를 모두 호환 자모 한 가지 표기로 맞춘다. ("자바", "자ㅂ", "잡" → ㅈㅏㅂ...)
+ * 2. 받침은 초성과 같은 글자로 풀고, 겹받침은 두 글자로 나눈다. → 입력 중인 "잡"이 "자바"의 접두사가 된다.
+ * 3. 한글이 아닌 문자는 그대로 둔다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char CHOSEONG_BASE = 0x1100;
+    private static final char JUNGSEONG_BASE = 0x1161;
+    private static final char JONGSEONG_BASE = 0x11A8;
+
+    private static final char COMPAT_BASE = 0x3131;
+    private static final char COMPAT_LAST = 0x3163;
+
+    // 조합형 초성(U+1100~U+1112) / 중성(U+1161~U+1175) / 종성(U+11A8~U+11C2) 순서의 호환 자모
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹자음 → 두 글자
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해 표기로 바꿉니다. (접두사/n-gram/편집 거리 비교용)
+     */
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int s = c - SYLLABLE_BASE;
+                sb.append(CHOSEONG.charAt(s / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                sb.append(JUNGSEONG.charAt((s % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT));
+                int t = s % JONGSEONG_COUNT;
+                if (t > 0) {
+                    appendConsonant(sb, JONGSEONG.charAt(t - 1));
+                }
+            } else if (isConjoining(c, CHOSEONG_BASE, CHOSEONG)) {
+                sb.append(CHOSEONG.charAt(c - CHOSEONG_BASE));
+            } else if (isConjoining(c, JUNGSEONG_BASE, JUNGSEONG)) {
+                sb.append(JUNGSEONG.charAt(c - JUNGSEONG_BASE));
+            } else if (isConjoining(c, JONGSEONG_BASE, JONGSEONG)) {
+                appendConsonant(sb, JONGSEONG.charAt(c - JONGSEONG_BASE));
+            } else if (c >= COMPAT_BASE && c <= COMPAT_LAST) {
+                appendConsonant(sb, c);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만 남긴 표기로 바꿉니다. ("자바 스프링" → "ㅈㅂ ㅅㅍㄹ") 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else if (isConjoining(c, CHOSEONG_BASE, CHOSEONG)) {
+                sb.append(CHOSEONG.charAt(c - CHOSEONG_BASE));
+            } else if (isConjoining(c, JUNGSEONG_BASE, JUNGSEONG) || isConjoining(c, JONGSEONG_BASE, JONGSEONG)) {
+                // 중성/종성은 버린다.
+            } else if (c >= COMPAT_BASE && c <= COMPAT_LAST) {
+                if (CHOSEONG.indexOf(c) >= 0) {
+                    sb.append(c);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색어인지 확인합니다. ("ㅈㅂ"처럼 초성으로 쓸 수 있는 자음만으로 이루어진 경우)
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (CHOSEONG.indexOf(c) < 0 && !isConjoining(c, CHOSEONG_BASE, CHOSEONG)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConjoining(char c, char base, String table) {
+        return c >= base && c < base + table.length();
+    }
+
+    private static void appendConsonant(StringBuilder sb, char consonant) {
+        int compound = COMPOUND.indexOf(consonant);
+        if (compound >= 0) {
+            sb.append(COMPOUND_SPLIT[compound]);
+        } else {
+            sb.append(consonant);
+        }
+    }
+}
@@ -4,9 +4,10 @@ import com.example.shortudy.domain.like.dto.LikeToggleResponse;
 import com.example.shortudy.domain.like.dto.MyLikedShortsResponse;
 import com.example.shortudy.domain.like.service.ShortsLikeService;
 import com.example.shortudy.global.common.ApiResponse;
+import com.example.shortudy.global.pagination.PageMode;
 import com.example.shortudy.global.security.principal.CustomUserDetails;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -46,16 +47,20 @@ public class ShortsLikeController {
      * [GET] 내가 좋아요한 숏츠 목록 조회
      * @param me 로그인 된 유저 정보
      * @param sort 정렬 기준 (latest: 최신순, popular: 인기순)
+     * @param mode 응답 모드 (page: 전체 개수 포함(근사값), slice: 다음 페이지 여부만)
      * @param pageable 페이지 처리 정보
      * @return 내가 좋아요한 숏츠 목록 DTO
      */
     @GetMapping("/me/likes/shorts")
-    public ResponseEntity<ApiResponse<Page<MyLikedShortsResponse>>> getMyLikeShorts(
+    public ResponseEntity<ApiResponse<Slice<MyLikedShortsResponse>>> getMyLikeShorts(
             @AuthenticationPrincipal CustomUserDetails me,
             @RequestParam(value = "sort", defaultValue = "latest") String sort,
+            @RequestParam(value = "mode", required = false) String mode,
             Pageable pageable
     ) {
-        Page<MyLikedShortsResponse> response = shortsLikeService.getMyLikedShorts(me.getId(), sort, pageable);
+        Slice<MyLikedShortsResponse> response = (PageMode.fromValue(mode) == PageMode.SLICE)
+                ? shortsLikeService.getMyLikedShortsSlice(me.getId(), sort, pageable)
+                : shortsLikeService.getMyLikedShorts(me.getId(), sort, pageable);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
     }
 
@@ -2,14 +2,14 @@ package com.example.shortudy.domain.like.entity;
 
 import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.user.entity.User;
+import com.example.shortudy.global.id.TimeSortedId;
 import com.example.shortudy.global.util.AssertUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,14 +28,20 @@ import java.util.Objects;
 @Entity
 @Table(
         name = "shorts_like",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "shorts_id", "deleted_at"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "shorts_id", "deleted_at"}),
+        indexes = {
+                // 내가 좋아요한 목록 (deleted_at IS NULL + 최신순)
+                @Index(name = "idx_shorts_like_user_created", columnList = "user_id, deleted_at, created_at, id"),
+                // 숏츠별 좋아요 개수 / 숏츠 삭제 시 일괄 삭제
+                @Index(name = "idx_shorts_like_shorts", columnList = "shorts_id, deleted_at")
+        }
 )
 @SQLDelete(sql = "UPDATE shorts_like SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class ShortsLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
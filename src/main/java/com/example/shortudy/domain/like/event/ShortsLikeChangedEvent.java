@@ -0,0 +1,8 @@
+package com.example.shortudy.domain.like.event;
+
+/**
+ * 좋아요 토글 이벤트
+ * - 트랜잭션 커밋 이후 사용자별 좋아요 캐시를 무효화하는 데 사용한다.
+ */
+public record ShortsLikeChangedEvent(Long userId, Long shortsId, boolean liked) {
+}
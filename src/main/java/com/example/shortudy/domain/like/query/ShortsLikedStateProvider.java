@@ -0,0 +1,101 @@
+package com.example.shortudy.domain.like.query;
+
+import com.example.shortudy.domain.like.event.ShortsLikeChangedEvent;
+import com.example.shortudy.domain.like.repository.RedisLikedShortsRepository;
+import com.example.shortudy.domain.like.repository.RedisLikedShortsRepository.LikedLookup;
+import com.example.shortudy.domain.like.repository.ShortsLikeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 페이지 단위 좋아요 여부 조회
+ * [배경]
+ * - 목록 쿼리마다 행 단위 EXISTS 서브쿼리를 두면 사용자별로 쿼리 결과가 달라져 캐시할 수 없다.
+ * - 목록은 사용자와 무관하게 조회하고, isLiked는 이 Provider로 페이지 전체를 한 번에 덧씌운다.
+ * [조회 순서]
+ * 1. 비로그인 또는 빈 페이지 → 빈 Set (쿼리 없음)
+ * 2. Redis 사용자별 좋아요 Set에서 SMISMEMBER 1회
+ * 3. 캐시가 없으면 사용자의 좋아요 ID를 적재한 뒤 판정
+ *    적재 전에 무효화 버전을 읽어 두고, 그 사이 좋아요가 토글되었으면 적재를 버린다. (오래된 목록이 캐시를 덮지 않도록)
+ *    좋아요가 너무 많은 사용자는 적재하지 않고 "적재 대상 아님" 표시만 남긴다. → TTL 동안은 스캔 없이 바로 IN 쿼리
+ * 4. Redis 장애 시 DB IN 쿼리로 대체
+ */
+@Component
+public class ShortsLikedStateProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsLikedStateProvider.class);
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final int MAX_CACHED_LIKES = 5_000;
+
+    private final ShortsLikeRepository shortsLikeRepository;
+    private final RedisLikedShortsRepository redisLikedShortsRepository;
+
+    public ShortsLikedStateProvider(ShortsLikeRepository shortsLikeRepository,
+                                    RedisLikedShortsRepository redisLikedShortsRepository) {
+        this.shortsLikeRepository = shortsLikeRepository;
+        this.redisLikedShortsRepository = redisLikedShortsRepository;
+    }
+
+    /**
+     * shortsIds 중 사용자가 좋아요한 숏츠 ID Set을 반환한다.
+     */
+    public Set<Long> likedShortsIds(Long userId, List<Long> shortsIds) {
+        if (userId == null || shortsIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            LikedLookup cached = redisLikedShortsRepository.findLikedAmong(userId, shortsIds);
+            if (cached == null) {
+                return warmUpAndResolve(userId, shortsIds);
+            }
+            if (cached.oversized()) {
+                return new HashSet<>(shortsLikeRepository.findLikedShortsIds(userId, shortsIds));
+            }
+            return cached.liked();
+        } catch (DataAccessException e) {
+            log.warn("좋아요 캐시 조회 실패, DB로 대체 - userId={}", userId, e);
+            return new HashSet<>(shortsLikeRepository.findLikedShortsIds(userId, shortsIds));
+        }
+    }
+
+    public boolean isLiked(Long userId, Long shortsId) {
+        return likedShortsIds(userId, List.of(shortsId)).contains(shortsId);
+    }
+
+    /**
+     * 좋아요 토글 커밋 이후 사용자 캐시를 무효화하고 버전을 올린다. (다음 조회 시 재적재)
+     */
+    @TransactionalEventListener
+    public void onLikeChanged(ShortsLikeChangedEvent event) {
+        try {
+            redisLikedShortsRepository.evict(event.userId(), CACHE_TTL);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 캐시 무효화 실패 - userId={}", event.userId(), e);
+        }
+    }
+
+    private Set<Long> warmUpAndResolve(Long userId, List<Long> shortsIds) {
+        String version = redisLikedShortsRepository.currentVersion(userId);
+        List<Long> allLiked = shortsLikeRepository.findLikedShortsIdsByUserId(userId, PageRequest.of(0, MAX_CACHED_LIKES + 1));
+        if (allLiked.size() > MAX_CACHED_LIKES) {
+            redisLikedShortsRepository.markOversized(userId, version, CACHE_TTL);
+            return new HashSet<>(shortsLikeRepository.findLikedShortsIds(userId, shortsIds));
+        }
+
+        redisLikedShortsRepository.cache(userId, allLiked, version, CACHE_TTL);
+        Set<Long> liked = new HashSet<>(shortsIds);
+        liked.retainAll(new HashSet<>(allLiked));
+        return liked;
+    }
+}
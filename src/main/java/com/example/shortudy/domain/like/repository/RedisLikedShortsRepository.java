@@ -0,0 +1,165 @@
+package com.example.shortudy.domain.like.repository;
+
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 숏츠 ID 집합 캐시
+ * [키 구조]
+ * - shorts:like:user:{userId} (SET) → 좋아요한 숏츠 ID 목록
+ * - 좋아요가 하나도 없는 사용자도 캐시할 수 있도록 WARM_MARKER 멤버를 함께 저장한다.
+ * - 좋아요가 너무 많아 적재하지 않는 사용자는 OVERSIZED_MARKER 멤버만 저장한다. → 매 조회마다 전체 스캔을 반복하지 않도록
+ * - shorts:like:user:{userId}:ver (STRING) → 무효화 버전. 좋아요 토글마다 증가한다.
+ * [적재 경쟁]
+ * - 적재(warm-up)는 DB를 읽기 전에 버전을 읽어 두고, 적재 스크립트에서 버전이 그대로일 때만 집합을 다시 만든다.
+ *   → DB를 읽은 뒤 토글이 커밋되어 무효화되었다면, 오래된 목록으로 만든 적재는 버려진다.
+ * - 집합 재구성(DEL → SADD → PEXPIRE)과 무효화(DEL → INCR)는 각각 스크립트 하나로 원자적으로 처리한다.
+ */
+@Repository
+public class RedisLikedShortsRepository {
+
+    private static final String KEY_PREFIX = "shorts:like:user:";
+    private static final String WARM_MARKER = "-";
+    private static final String OVERSIZED_MARKER = "+";
+    private static final String VERSION_SUFFIX = ":ver";
+
+    /**
+     * 버전이 그대로일 때만 집합을 다시 만든다.
+     * - KEYS[1]=집합, KEYS[2]=버전 / ARGV[1]=읽어 둔 버전, ARGV[2]=TTL(ms), ARGV[3..]=멤버
+     * - unpack 인자 수 제한을 피하려고 1000개씩 나눠 SADD 한다.
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 집합을 지우고 버전을 올린다. (KEYS[1]=집합, KEYS[2]=버전 / ARGV[1]=버전 TTL(ms))
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SetOperations<String, String> setOperations;
+
+    public RedisLikedShortsRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.setOperations = redisTemplate.opsForSet();
+    }
+
+    /**
+     * 캐시된 집합에서 shortsIds 중 좋아요한 ID만 골라낸다. (SMISMEMBER 1회)
+     * @return 캐시가 없으면 null, 적재 대상이 아닌 사용자면 LikedLookup.tooLarge()
+     */
+    public LikedLookup findLikedAmong(Long userId, List<Long> shortsIds) {
+        String[] members = new String[shortsIds.size() + 2];
+        members[0] = WARM_MARKER;
+        members[1] = OVERSIZED_MARKER;
+        for (int i = 0; i < shortsIds.size(); i++) {
+            members[i + 2] = shortsIds.get(i).toString();
+        }
+
+        Map<Object, Boolean> result = setOperations.isMember(key(userId), (Object[]) members);
+        if (result == null) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(result.get(OVERSIZED_MARKER))) {
+            return LikedLookup.tooLarge();
+        }
+        if (!Boolean.TRUE.equals(result.get(WARM_MARKER))) {
+            return null;
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (Long shortsId : shortsIds) {
+            if (Boolean.TRUE.equals(result.get(shortsId.toString()))) {
+                liked.add(shortsId);
+            }
+        }
+        return new LikedLookup(false, liked);
+    }
+
+    /**
+     * 적재 전에 현재 무효화 버전을 읽는다. (DB 조회보다 먼저 호출해야 한다)
+     */
+    public String currentVersion(Long userId) {
+        String version = redisTemplate.opsForValue().get(versionKey(userId));
+        return version == null ? "0" : version;
+    }
+
+    /**
+     * 사용자의 전체 좋아요 ID 목록을 캐시에 적재
+     * @return 적재했으면 true, 읽어 둔 뒤 무효화되어 버렸으면 false
+     */
+    public boolean cache(Long userId, Collection<Long> likedShortsIds, String version, Duration ttl) {
+        Object[] argv = new Object[likedShortsIds.size() + 3];
+        argv[0] = version;
+        argv[1] = String.valueOf(ttl.toMillis());
+        argv[2] = WARM_MARKER;
+        int i = 3;
+        for (Long shortsId : likedShortsIds) {
+            argv[i++] = shortsId.toString();
+        }
+        return rebuild(userId, argv);
+    }
+
+    // 좋아요가 너무 많아 적재하지 않는 사용자임을 표시 (TTL 동안 IN 쿼리로 바로 판정)
+    public boolean markOversized(Long userId, String version, Duration ttl) {
+        return rebuild(userId, new Object[]{version, String.valueOf(ttl.toMillis()), OVERSIZED_MARKER});
+    }
+
+    /**
+     * 캐시를 지우고 버전을 올린다. → 진행 중인 적재도 버려진다.
+     * @param versionTtl 버전 키 TTL (적재 한 번에 걸리는 시간보다 충분히 길어야 한다)
+     */
+    public void evict(Long userId, Duration versionTtl) {
+        redisTemplate.execute(EVICT_SCRIPT, List.of(key(userId), versionKey(userId)), String.valueOf(versionTtl.toMillis()));
+    }
+
+    private boolean rebuild(Long userId, Object[] argv) {
+        Long rebuilt = redisTemplate.execute(REBUILD_SCRIPT, List.of(key(userId), versionKey(userId)), argv);
+        return rebuilt != null && rebuilt > 0;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + userId + VERSION_SUFFIX;
+    }
+
+    /**
+     * 캐시 조회 결과
+     *
+     * @param oversized true면 캐시 대상이 아닌 사용자 (liked는 비어 있음)
+     * @param liked     요청한 ID 중 좋아요한 ID
+     */
+    public record LikedLookup(boolean oversized, Set<Long> liked) {
+
+        public static LikedLookup tooLarge() {
+            return new LikedLookup(true, Set.of());
+        }
+    }
+}
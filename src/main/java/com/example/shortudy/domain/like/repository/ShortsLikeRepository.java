@@ -1,14 +1,15 @@
 package com.example.shortudy.domain.like.repository;
 
 import com.example.shortudy.domain.like.entity.ShortsLike;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,9 +29,9 @@ public interface ShortsLikeRepository extends JpaRepository<ShortsLike, Long> {
     Optional<ShortsLike> findWithDeleted(Long userId, Long shortsId);
 
     /**
-     * 좋아요에 관련된 모든 정보 받아오기(shorts, user, category) - 최신순
+     * 좋아요 목록 Slice 조회 (COUNT 쿼리 없이 size + 1개로 다음 페이지 여부만 판단) - 최신순
      * @param userId 사용자 ID
-     * @return 좋아요와 관련된 최신순 정보 리스트
+     * @return 좋아요와 관련된 최신순 정보 Slice
      */
     @Query("SELECT sl FROM ShortsLike sl " +
             "JOIN FETCH sl.shorts s " +
@@ -38,12 +39,12 @@ public interface ShortsLikeRepository extends JpaRepository<ShortsLike, Long> {
             "JOIN FETCH s.category c " +
             "WHERE sl.user.id = :userId " +
             "ORDER BY sl.createdAt DESC, sl.id DESC")
-    Page<ShortsLike> findAllByUserIdWithDetailsLatest(@Param("userId") Long userId, Pageable pageable);
+    Slice<ShortsLike> findSliceByUserIdWithDetailsLatest(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 좋아요에 관련된 모든 정보 받아오기(shorts, user, category) - 인기순(like count)
+     * 좋아요 목록 Slice 조회 - 인기순
      * @param userId 사용자 ID
-     * @return 좋아요와 관련된 인기순 정보 리스트
+     * @return 좋아요와 관련된 인기순 정보 Slice
      */
     @Query("SELECT sl FROM ShortsLike sl " +
             "JOIN FETCH sl.shorts s " +
@@ -51,7 +52,12 @@ public interface ShortsLikeRepository extends JpaRepository<ShortsLike, Long> {
             "JOIN FETCH s.category c " +
             "WHERE sl.user.id = :userId " +
             "ORDER BY s.likeCount DESC, sl.createdAt DESC")
-    Page<ShortsLike> findAllByUserIdWithDetailsPopular(@Param("userId") Long userId, Pageable pageable);
+    Slice<ShortsLike> findSliceByUserIdWithDetailsPopular(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 좋아요 개수 (삭제되지 않은 좋아요만)
+     */
+    long countByUserId(Long userId);
 
     Optional<ShortsLike> findByUserIdAndShortsId(Long userId, Long shortsId);
 
@@ -59,6 +65,14 @@ public interface ShortsLikeRepository extends JpaRepository<ShortsLike, Long> {
     @Query("select sl from ShortsLike sl where sl.user.id = :userId and sl.shorts.id in :shortsIds")
     List<ShortsLike> findByUserIdAndShortsIdIn(@Param("userId") Long userId, @Param("shortsIds") List<Long> shortsIds);
 
+    // 좋아요 여부 배치 조회 (ID만 조회)
+    @Query("select sl.shorts.id from ShortsLike sl where sl.user.id = :userId and sl.shorts.id in :shortsIds")
+    List<Long> findLikedShortsIds(@Param("userId") Long userId, @Param("shortsIds") Collection<Long> shortsIds);
+
+    // 사용자가 좋아요한 숏츠 ID 전체 조회 (캐시 적재용, Pageable은 상한 용도)
+    @Query("select sl.shorts.id from ShortsLike sl where sl.user.id = :userId")
+    List<Long> findLikedShortsIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
     boolean existsByUserIdAndShortsId(Long userId, Long shortsId);
 
     public interface ShortsLikeCountProjection {
@@ -1,29 +1,31 @@
 package com.example.shortudy.domain.like.service;
 
-import com.example.shortudy.domain.comment.repository.CommentRepository;
 import com.example.shortudy.domain.keyword.entity.Keyword;
 import com.example.shortudy.domain.like.dto.LikeToggleResponse;
 import com.example.shortudy.domain.like.dto.MyLikedShortsResponse;
 import com.example.shortudy.domain.like.dto.ShortsLikeResponse;
 import com.example.shortudy.domain.like.dto.SortStandard;
 import com.example.shortudy.domain.like.entity.ShortsLike;
+import com.example.shortudy.domain.like.event.ShortsLikeChangedEvent;
 import com.example.shortudy.domain.like.repository.ShortsLikeRepository;
 import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.domain.shorts.event.ShortsEngagementEvent;
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
 import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.domain.user.repository.UserRepository;
 import com.example.shortudy.global.config.S3Service;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.pagination.ApproximateCountCache;
+import com.example.shortudy.global.pagination.PageMode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 좋아요 서비스 레이어
@@ -33,22 +35,25 @@ public class ShortsLikeService {
 
     private final ShortsLikeRepository shortsLikeRepository;
     private final ShortsRepository shortsRepository;
-    private final CommentRepository commentRepository;
     private final UserRepository userRepository;
 
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApproximateCountCache approximateCountCache;
 
     public ShortsLikeService(
             ShortsLikeRepository shortsLikeRepository,
             ShortsRepository shortsRepository,
-            CommentRepository commentRepository,
             UserRepository userRepository,
-            S3Service s3Service) {
+            S3Service s3Service,
+            ApplicationEventPublisher eventPublisher,
+            ApproximateCountCache approximateCountCache) {
         this.shortsRepository = shortsRepository;
         this.userRepository = userRepository;
         this.shortsLikeRepository = shortsLikeRepository;
-        this.commentRepository = commentRepository;
         this.s3Service = s3Service;
+        this.eventPublisher = eventPublisher;
+        this.approximateCountCache = approximateCountCache;
     }
 
     /**
@@ -64,41 +69,48 @@ public class ShortsLikeService {
                 .orElseThrow(() -> new BaseException(ErrorCode.SHORTS_NOT_FOUND));
         Optional<ShortsLike> existingLike = shortsLikeRepository.findWithDeleted(userId, shortsId);
 
-        if (existingLike.isPresent()) {
-            ShortsLike like = existingLike.get();
-            return toggleExistingLike(shorts, like);
-        }
+        LikeToggleResponse response = existingLike.isPresent()
+                ? toggleExistingLike(shorts, existingLike.get())
+                : createNewLike(userId, shorts);
 
-        return createNewLike(userId, shorts);
+        // 커밋 이후 사용자별 좋아요 캐시 무효화
+        eventPublisher.publishEvent(new ShortsLikeChangedEvent(userId, shortsId, response.isLiked()));
+        // 커밋 이후 트렌딩 점수/리더보드 갱신
+        eventPublisher.publishEvent(ShortsEngagementEvent.like(shortsId, shorts.getCategory().getId(), response.isLiked() ? 1 : -1));
+        return response;
     }
 
     /**
      * 임의의 사용자가 누른 좋아요 숏츠 목록 처리
+     * - 목록은 Slice로 조회하고, 전체 개수는 근사값 캐시에서 가져온다. (요청 경로에서 COUNT 없음)
      * @param userId 사용자 ID
      * @return 해당하는 좋아요 숏츠 목록 리스트
      */
     @Transactional(readOnly = true)
     public Page<MyLikedShortsResponse> getMyLikedShorts(Long userId, String sort, Pageable pageable) {
+        return (Page<MyLikedShortsResponse>) approximateCountCache.apply(PageMode.PAGE,
+                getMyLikedShortsSlice(userId, sort, pageable),
+                "likes:user:" + userId,
+                () -> shortsLikeRepository.countByUserId(userId));
+    }
 
-        Page<ShortsLike> likes = switch(SortStandard.fromValue(sort)) {
-            case LATEST -> shortsLikeRepository.findAllByUserIdWithDetailsLatest(userId, pageable);
-            case POPULAR -> shortsLikeRepository.findAllByUserIdWithDetailsPopular(userId, pageable);
-        };
-
-        List<Long> shortsIds = likes.getContent().stream()
-                .map(sl -> sl.getShorts().getId())
-                .toList();
+    /**
+     * 임의의 사용자가 누른 좋아요 숏츠 목록 처리 (무한 스크롤용 Slice, 전체 개수 없음)
+     * @param userId 사용자 ID
+     * @return 해당하는 좋아요 숏츠 Slice
+     */
+    @Transactional(readOnly = true)
+    public Slice<MyLikedShortsResponse> getMyLikedShortsSlice(Long userId, String sort, Pageable pageable) {
 
-        Map<Long, Long> commentCountMap = commentRepository.countByShortsIds(shortsIds).stream()
-                .collect(Collectors.toMap(
-                        result -> (Long)result[0],
-                        result -> (Long)result[1]
-                ));
+        Slice<ShortsLike> likes = switch(SortStandard.fromValue(sort)) {
+            case LATEST -> shortsLikeRepository.findSliceByUserIdWithDetailsLatest(userId, pageable);
+            case POPULAR -> shortsLikeRepository.findSliceByUserIdWithDetailsPopular(userId, pageable);
+        };
 
         return likes.map(like -> MyLikedShortsResponse.from(
             like.getShorts(),
             like.getShorts().getKeywords().stream().map(Keyword::getDisplayName).toList(),
-            commentCountMap.getOrDefault(like.getShorts().getId(), 0L).intValue(),
+            like.getShorts().getCommentCount().intValue(),
             s3Service.getFileUrl(like.getShorts().getUser().getProfileUrl())
         ));
     }
@@ -8,10 +8,12 @@ import com.example.shortudy.domain.playlist.dto.response.PlaylistDetailResponse;
 import com.example.shortudy.domain.playlist.dto.response.PlaylistResponse;
 import com.example.shortudy.domain.playlist.service.PlaylistService;
 import com.example.shortudy.global.common.ApiResponse;
+import com.example.shortudy.global.pagination.PageMode;
 import com.example.shortudy.global.security.principal.CustomUserDetails;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -128,23 +130,26 @@ public class PlaylistController {
      * 전체 공개 플레이리스트 목록 조회 API
      * - 로그인 없이도 조회 가능
      * - 모든 사용자의 공개 플레이리스트를 최신순으로 조회
+     * - mode=slice: 전체 개수 없이 다음 페이지 여부만 반환 (무한 스크롤)
      */
     @GetMapping("/public")
     @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<Page<PlaylistResponse>> getPublicPlaylists(
+    public ApiResponse<Slice<PlaylistResponse>> getPublicPlaylists(
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable
     ) {
-        Page<PlaylistResponse> response = playlistService.getPublicPlaylists(pageable);
+        Slice<PlaylistResponse> response = playlistService.getPublicPlaylists(pageable, PageMode.fromValue(mode));
         return ApiResponse.success(response);
     }
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<Page<PlaylistResponse>> searchPublicPlaylists(
+    public ApiResponse<Slice<PlaylistResponse>> searchPublicPlaylists(
             @RequestParam String query,
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable
     ) {
-        Page<PlaylistResponse> response = playlistService.searchPublicPlaylists(query, pageable);
+        Slice<PlaylistResponse> response = playlistService.searchPublicPlaylists(query, pageable, PageMode.fromValue(mode));
         return ApiResponse.success(response);
     }
 
@@ -10,7 +10,6 @@ import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,21 +39,19 @@ public record PlaylistDetailResponse(
      * [프론트 요청 반영]
      * - ShortsInfo에 videoUrl, description, status, category, keywords,
      *   viewCount, likeCount, commentCount, createdAt, updatedAt, isLiked 필드 추가
-     * - commentCounts: 숏츠별 댓글 수 (배치 조회 결과)
+     * - commentCount: Shorts.commentCount 컬럼 값을 그대로 사용
      * - likedShortsIds: 현재 사용자가 좋아요한 숏츠 ID 목록
      *
      * @param playlist       변환할 Playlist 엔티티
-     * @param commentCounts  숏츠 ID → 댓글 수 맵
      * @param likedShortsIds 현재 사용자가 좋아요한 숏츠 ID Set
      * @return 변환된 PlaylistDetailResponse DTO
      */
     public static PlaylistDetailResponse from(
             Playlist playlist,
-            Map<Long, Long> commentCounts,
             Set<Long> likedShortsIds
     ) {
         List<PlaylistShortsItem> items = playlist.getPlaylistShorts().stream()
-                .map(ps -> PlaylistShortsItem.from(ps, commentCounts, likedShortsIds))
+                .map(ps -> PlaylistShortsItem.from(ps, likedShortsIds))
                 .toList();
 
         return new PlaylistDetailResponse(
@@ -90,13 +87,11 @@ public record PlaylistDetailResponse(
          * PlaylistShorts 엔티티 → PlaylistShortsItem DTO 변환
          *
          * @param ps              변환할 PlaylistShorts 엔티티
-         * @param commentCounts   숏츠 ID → 댓글 수 맵
          * @param likedShortsIds  현재 사용자가 좋아요한 숏츠 ID Set
          * @return 변환된 PlaylistShortsItem DTO
          */
         public static PlaylistShortsItem from(
                 PlaylistShorts ps,
-                Map<Long, Long> commentCounts,
                 Set<Long> likedShortsIds
         ) {
             Shorts shorts = ps.getShorts();
@@ -112,8 +107,8 @@ public record PlaylistDetailResponse(
                     ? new CategoryInfo(shorts.getCategory().getId(), shorts.getCategory().getName())
                     : null;
 
-            // 댓글 수 (맵에 없으면 0)
-            long commentCount = commentCounts.getOrDefault(shortsId, 0L);
+            // 댓글 수 (비정규화 컬럼)
+            long commentCount = shorts.getCommentCount();
 
             // 좋아요 여부
             boolean isLiked = likedShortsIds.contains(shortsId);
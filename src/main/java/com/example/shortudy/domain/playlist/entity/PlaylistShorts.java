@@ -1,6 +1,7 @@
 package com.example.shortudy.domain.playlist.entity;
 
 import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -34,7 +35,7 @@ public class PlaylistShorts {
      * 고유 식별자
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     /**
@@ -4,6 +4,7 @@ import com.example.shortudy.domain.playlist.entity.Playlist;
 import com.example.shortudy.domain.playlist.entity.PlaylistVisibility;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -50,34 +51,47 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
 
     /**
      * 공개범위별 플레이리스트 목록 조회
+     * - Slice 반환: COUNT 쿼리 없이 size + 1개 조회로 다음 페이지 여부만 판단
      */
     @EntityGraph(attributePaths = {"user"})
-    Page<Playlist> findByVisibility(PlaylistVisibility visibility, Pageable pageable);
+    Slice<Playlist> findByVisibility(PlaylistVisibility visibility, Pageable pageable);
 
     /**
      * 제목으로 플레이리스트 검색 (특정 공개범위)
      * [LIKE 검색]
      * - CONCAT('%', :query, '%'): query를 포함하는 모든 문자열
      * - 예: query가 "자바"면 "자바 기초", "고급 자바", "자바" 모두 매칭
-     * [countQuery 분리]
-     * - 메인 쿼리에 JOIN FETCH가 포함되어 있으므로 count 쿼리를 분리
-     * - count 쿼리에서 불필요한 fetch join을 제거하여 성능 개선
+     * [Slice 반환]
+     * - 요청 경로에서 COUNT 쿼리를 실행하지 않는다. (전체 개수는 countByTitleAndVisibility + 근사 캐시)
      * [참고] 대규모 데이터에서 LIKE '%keyword%'는 인덱스를 타지 못함
      * - 추후 MySQL Full-Text Index 도입 시 MATCH AGAINST로 전환 권장
      */
     @Query(value = "SELECT p FROM Playlist p " +
             "JOIN FETCH p.user " +
             "WHERE p.visibility = :visibility " +
-            "AND p.title LIKE CONCAT('%', :query, '%')",
-            countQuery = "SELECT COUNT(p) FROM Playlist p " +
-                    "WHERE p.visibility = :visibility " +
-                    "AND p.title LIKE CONCAT('%', :query, '%')")
-    Page<Playlist> searchByTitleAndVisibility(
+            "AND p.title LIKE CONCAT('%', :query, '%')")
+    Slice<Playlist> searchByTitleAndVisibility(
             @Param("query") String query,
             @Param("visibility") PlaylistVisibility visibility,
             Pageable pageable
     );
 
+    /**
+     * 공개범위별 플레이리스트 개수 (근사 개수 캐시 갱신용)
+     */
+    long countByVisibility(PlaylistVisibility visibility);
+
+    /**
+     * 제목 검색 결과 개수 (근사 개수 캐시 갱신용)
+     */
+    @Query("SELECT COUNT(p) FROM Playlist p " +
+            "WHERE p.visibility = :visibility " +
+            "AND p.title LIKE CONCAT('%', :query, '%')")
+    long countByTitleAndVisibility(
+            @Param("query") String query,
+            @Param("visibility") PlaylistVisibility visibility
+    );
+
     /**
      * 특정 사용자의 플레이리스트 개수 조회
      * [countBy... 메서드]
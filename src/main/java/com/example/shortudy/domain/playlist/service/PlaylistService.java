@@ -1,7 +1,6 @@
 package com.example.shortudy.domain.playlist.service;
 
-import com.example.shortudy.domain.comment.repository.CommentRepository;
-import com.example.shortudy.domain.like.repository.ShortsLikeRepository;
+import com.example.shortudy.domain.like.query.ShortsLikedStateProvider;
 import com.example.shortudy.domain.playlist.dto.request.PlaylistCreateRequest;
 import com.example.shortudy.domain.playlist.dto.request.PlaylistShortsAddRequest;
 import com.example.shortudy.domain.playlist.dto.request.PlaylistShortsReorderRequest;
@@ -21,14 +20,16 @@ import com.example.shortudy.domain.user.repository.UserRepository;
 import com.example.shortudy.global.config.S3Service;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.pagination.ApproximateCountCache;
+import com.example.shortudy.global.pagination.PageMode;
 import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -38,9 +39,9 @@ public class PlaylistService {
     private final PlaylistShortsRepository playlistShortsRepository;
     private final ShortsRepository shortsRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final ShortsLikeRepository shortsLikeRepository;
+    private final ShortsLikedStateProvider shortsLikedStateProvider;
     private final S3Service s3Service;
+    private final ApproximateCountCache approximateCountCache;
 
 
     public PlaylistService(
@@ -48,17 +49,17 @@ public class PlaylistService {
             PlaylistShortsRepository playlistShortsRepository,
             ShortsRepository shortsRepository,
             UserRepository userRepository,
-            CommentRepository commentRepository,
-            ShortsLikeRepository shortsLikeRepository,
-            S3Service s3Service
+            ShortsLikedStateProvider shortsLikedStateProvider,
+            S3Service s3Service,
+            ApproximateCountCache approximateCountCache
     ) {
         this.playlistRepository = playlistRepository;
         this.playlistShortsRepository = playlistShortsRepository;
         this.shortsRepository = shortsRepository;
         this.userRepository = userRepository;
-        this.commentRepository = commentRepository;
-        this.shortsLikeRepository = shortsLikeRepository;
+        this.shortsLikedStateProvider = shortsLikedStateProvider;
         this.s3Service = s3Service;
+        this.approximateCountCache = approximateCountCache;
     }
 
     /**
@@ -205,23 +206,28 @@ public class PlaylistService {
 
     /**
      * 전체 공개 플레이리스트 목록 조회
+     * - PAGE 모드의 전체 개수는 근사 개수 캐시에서 가져온다. (요청 경로에서 COUNT 없음)
      */
-    public Page<PlaylistResponse> getPublicPlaylists(Pageable pageable) {
-        return playlistRepository.findByVisibility(PlaylistVisibility.PUBLIC, pageable)
+    public Slice<PlaylistResponse> getPublicPlaylists(Pageable pageable, PageMode mode) {
+        Slice<PlaylistResponse> slice = playlistRepository.findByVisibility(PlaylistVisibility.PUBLIC, pageable)
                 .map(PlaylistResponse::from)
                 .map(this::convertProfileUrl);
+        return approximateCountCache.apply(mode, slice, "playlist:public",
+                () -> playlistRepository.countByVisibility(PlaylistVisibility.PUBLIC));
     }
 
-    public Page<PlaylistResponse> searchPublicPlaylists(String query, Pageable pageable) {
+    public Slice<PlaylistResponse> searchPublicPlaylists(String query, Pageable pageable, PageMode mode) {
         if (query == null || query.isBlank()) {
             throw new BaseException(ErrorCode.INVALID_INPUT);
         }
-        return playlistRepository.searchByTitleAndVisibility(
+        Slice<PlaylistResponse> slice = playlistRepository.searchByTitleAndVisibility(
                 query,
                 PlaylistVisibility.PUBLIC,
                 pageable
         ).map(PlaylistResponse::from)
         .map(this::convertProfileUrl);
+        return approximateCountCache.apply(mode, slice, "playlist:search:" + query,
+                () -> playlistRepository.countByTitleAndVisibility(query, PlaylistVisibility.PUBLIC));
     }
 
     /**
@@ -260,8 +266,7 @@ public class PlaylistService {
                 .map(ps -> ps.getShorts().getId())
                 .toList();
 
-        // 댓글 수, 좋아요 여부 배치 조회
-        Map<Long, Long> commentCounts = getCommentCounts(shortsIds);
+        // 좋아요 여부 배치 조회 (댓글 수는 Shorts.commentCount 컬럼 사용)
         Set<Long> likedShortsIds = getLikedShortsIds(currentUserId, shortsIds);
 
         // Page 구조를 유지하면서 DTO 변환
@@ -270,7 +275,7 @@ public class PlaylistService {
                 .findFirst()
                 .map(ps -> {
                     PlaylistDetailResponse.PlaylistShortsItem dto =
-                            PlaylistDetailResponse.PlaylistShortsItem.from(ps, commentCounts, likedShortsIds);
+                            PlaylistDetailResponse.PlaylistShortsItem.from(ps, likedShortsIds);
                     return convertProfileUrl(dto);
                 })
                 .orElse(null));
@@ -479,11 +484,10 @@ public class PlaylistService {
                 .map(ps -> ps.getShorts().getId())
                 .toList();
 
-        // 댓글 수, 좋아요 여부 배치 조회
-        Map<Long, Long> commentCounts = getCommentCounts(shortsIds);
+        // 좋아요 여부 배치 조회 (댓글 수는 Shorts.commentCount 컬럼 사용)
         Set<Long> likedShortsIds = getLikedShortsIds(currentUserId, shortsIds);
 
-        return convertProfileUrl(PlaylistDetailResponse.from(playlist, commentCounts, likedShortsIds));
+        return convertProfileUrl(PlaylistDetailResponse.from(playlist, likedShortsIds));
     }
 
     /**
@@ -500,40 +504,17 @@ public class PlaylistService {
         }
     }
 
-    /**
-     * 숏츠별 댓글 수 배치 조회
-     * - N+1 방지: 숏츠 개수만큼 COUNT 쿼리 실행 대신, 한 번의 쿼리로 모두 조회
-     *
-     * @param shortsIds 조회 대상 숏츠 ID 목록
-     * @return 숏츠 ID → 댓글 수 맵
-     */
-    private Map<Long, Long> getCommentCounts(List<Long> shortsIds) {
-        if (shortsIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        return commentRepository.countAllCommentsByShortsIds(shortsIds).stream()
-                .collect(Collectors.toMap(
-                        p -> p.getShortsId(),
-                        p -> p.getCnt()
-                ));
-    }
-
     /**
      * 현재 사용자가 좋아요한 숏츠 ID Set 조회
      * - 비로그인 사용자는 빈 Set 반환
-     * - N+1 방지: 한 번의 쿼리로 모든 좋아요 상태 확인
+     * - N+1 방지: 사용자별 좋아요 캐시(SMISMEMBER 1회) 또는 한 번의 IN 쿼리로 확인
      *
      * @param currentUserId 현재 사용자 ID (null이면 비로그인)
      * @param shortsIds     조회 대상 숏츠 ID 목록
      * @return 좋아요한 숏츠 ID Set
      */
     private Set<Long> getLikedShortsIds(Long currentUserId, List<Long> shortsIds) {
-        if (currentUserId == null || shortsIds.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return shortsLikeRepository.findByUserIdAndShortsIdIn(currentUserId, shortsIds).stream()
-                .map(like -> like.getShorts().getId())
-                .collect(Collectors.toSet());
+        return shortsLikedStateProvider.likedShortsIds(currentUserId, shortsIds);
     }
 
 
@@ -1,12 +1,12 @@
 package com.example.shortudy.domain.recommendation.service;
 
-import com.example.shortudy.domain.comment.repository.CommentRepository;
-import com.example.shortudy.domain.like.repository.ShortsLikeRepository;
+import com.example.shortudy.domain.like.query.ShortsLikedStateProvider;
 import com.example.shortudy.domain.recommendation.dto.response.RecommendationResponse;
 import com.example.shortudy.domain.shorts.dto.ShortsResponse;
 import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.shorts.entity.ShortsStatus;
 import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import com.example.shortudy.domain.shorts.random.ShortsRandomSampler;
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
 import com.example.shortudy.global.error.BaseException;
 import org.springframework.data.domain.PageRequest;
@@ -26,7 +26,7 @@ import static com.example.shortudy.global.error.ErrorCode.SHORTS_NOT_FOUND;
  * [알고리즘] 자카드 유사도 기반 키워드 매칭
  * [후보 선정 전략] 2단계 fallback
  * 1차: 같은 카테고리 숏츠 (최신순)
- * 2차: 랜덤 PUBLISHED 숏츠 (RAND)
+ * 2차: 랜덤 PUBLISHED 숏츠 (ShortsRandomSampler)
  */
 @Service
 @Transactional(readOnly = true)
@@ -37,19 +37,19 @@ public class ShortsRecommendationService {
 
     private final ShortsRepository shortsRepository;
     private final EntityManager entityManager;
-    private final CommentRepository commentRepository;
-    private final ShortsLikeRepository shortsLikeRepository;
+    private final ShortsLikedStateProvider shortsLikedStateProvider;
+    private final ShortsRandomSampler shortsRandomSampler;
 
     public ShortsRecommendationService(
             ShortsRepository shortsRepository,
             EntityManager entityManager,
-            CommentRepository commentRepository,
-            ShortsLikeRepository shortsLikeRepository
+            ShortsLikedStateProvider shortsLikedStateProvider,
+            ShortsRandomSampler shortsRandomSampler
     ) {
         this.shortsRepository = shortsRepository;
         this.entityManager = entityManager;
-        this.commentRepository = commentRepository;
-        this.shortsLikeRepository = shortsLikeRepository;
+        this.shortsLikedStateProvider = shortsLikedStateProvider;
+        this.shortsRandomSampler = shortsRandomSampler;
     }
 
     /**
@@ -121,12 +121,11 @@ public class ShortsRecommendationService {
                 .filter(s -> pagedShortsIds.contains(s.getId()))
                 .toList();
 
-        // 8. 댓글 수, 좋아요 여부 배치 조회 (페이징된 결과만)
+        // 8. 좋아요 여부 배치 조회 (페이징된 결과만, 댓글 수는 Shorts.commentCount 컬럼 사용)
         List<Long> pagedShortsIdList = pagedShortsList.stream()
                 .map(Shorts::getId)
                 .toList();
 
-        Map<Long, Long> commentCounts = getCommentCounts(pagedShortsIdList);
         Set<Long> likedShortsIds = getLikedShortsIds(currentUserId, pagedShortsIdList);
 
         // 9. Shorts → ShortsResponse 변환 (commentCount, isLiked 포함)
@@ -135,7 +134,7 @@ public class ShortsRecommendationService {
                         Shorts::getId,
                         shorts -> ShortsResponse.of(
                                 shorts,
-                                commentCounts.getOrDefault(shorts.getId(), 0L),
+                                shorts.getCommentCount(),
                                 shorts.getViewCount(),
                                 likedShortsIds.contains(shorts.getId())
                         )
@@ -188,16 +187,12 @@ public class ShortsRecommendationService {
         }
 
         // 2차: 랜덤 fallback (cold start — 카테고리 부족할 때)
+        // 메모리 ID 풀에서 기준 숏츠와 이미 수집된 후보를 제외하고 부족분만큼 샘플링 (테이블 정렬 없음)
         if (collectedIds.size() < MAX_CANDIDATES) {
             int remaining = MAX_CANDIDATES - collectedIds.size();
-            List<Shorts> randomCandidates = shortsRepository.findRecommendationCandidates(
-                    baseShortsId,
-                    ShortsStatus.PUBLISHED,
-                    PageRequest.of(0, remaining));
-            for (Shorts randomShorts : randomCandidates) {
-                collectedIds.add(randomShorts.getId());
-                if (collectedIds.size() >= MAX_CANDIDATES) break;
-            }
+            Set<Long> excludeIds = new HashSet<>(collectedIds);
+            excludeIds.add(baseShortsId);
+            collectedIds.addAll(shortsRandomSampler.sample(remaining, excludeIds));
         }
 
         return new ArrayList<>(collectedIds);
@@ -206,6 +201,7 @@ public class ShortsRecommendationService {
     /**
      * 후보 숏츠 상세 조회 (user, category, keywords 로딩)
      * - Repository에 ID 목록 fetch join 메서드가 없어 개별 조회로 처리
+     * - 랜덤 샘플링 풀이 잠시 오래될 수 있으므로 발행/공개 조건을 다시 건다.
      */
     private List<Shorts> loadCandidatesWithKeywords(List<Long> candidateIds) {
         if (candidateIds.isEmpty()) {
@@ -217,7 +213,9 @@ public class ShortsRecommendationService {
                                 "JOIN FETCH s.category " +
                                 "LEFT JOIN FETCH s.shortsKeywords sk " +
                                 "LEFT JOIN FETCH sk.keyword " +
-                                "WHERE s.id IN :ids",
+                                "WHERE s.id IN :ids " +
+                                "AND s.status = 'PUBLISHED' " +
+                                "AND s.visibility = 'PUBLIC'",
                         Shorts.class)
                 .setParameter("ids", candidateIds)
                 .getResultList();
@@ -262,39 +260,16 @@ public class ShortsRecommendationService {
 
     // ==================== 배치 조회 헬퍼 메서드 ====================
 
-    /**
-     * 숏츠별 댓글 수 배치 조회
-     * - N+1 방지: 숏츠 개수만큼 COUNT 쿼리 실행 대신, 한 번의 쿼리로 모두 조회
-     *
-     * @param shortsIds 조회 대상 숏츠 ID 목록
-     * @return 숏츠 ID → 댓글 수 맵
-     */
-    private Map<Long, Long> getCommentCounts(List<Long> shortsIds) {
-        if (shortsIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        return commentRepository.countAllCommentsByShortsIds(shortsIds).stream()
-                .collect(Collectors.toMap(
-                        p -> p.getShortsId(),
-                        p -> p.getCnt()
-                ));
-    }
-
     /**
      * 현재 사용자가 좋아요한 숏츠 ID Set 조회
      * - 비로그인 사용자는 빈 Set 반환
-     * - N+1 방지: 한 번의 쿼리로 모든 좋아요 상태 확인
+     * - N+1 방지: 사용자별 좋아요 캐시(SMISMEMBER 1회) 또는 한 번의 IN 쿼리로 확인
      *
      * @param currentUserId 현재 사용자 ID (null이면 비로그인)
      * @param shortsIds     조회 대상 숏츠 ID 목록
      * @return 좋아요한 숏츠 ID Set
      */
     private Set<Long> getLikedShortsIds(Long currentUserId, List<Long> shortsIds) {
-        if (currentUserId == null || shortsIds.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return shortsLikeRepository.findByUserIdAndShortsIdIn(currentUserId, shortsIds).stream()
-                .map(like -> like.getShorts().getId())
-                .collect(Collectors.toSet());
+        return shortsLikedStateProvider.likedShortsIds(currentUserId, shortsIds);
     }
 }
@@ -0,0 +1,167 @@
+package com.example.shortudy.domain.shorts.cache;
+
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 공개 피드 응답 2단 캐시
+ * [구조]
+ * - 1단(near): 인스턴스 로컬 Caffeine 캐시, 짧은 TTL (기본 3초)
+ * - 2단(shared): Redis JSON, 버전 키를 포함해 저장 (기본 30초)
+ * [캐시 대상]
+ * - 사용자와 무관한 목록 결과(조회 행 + 키워드)만 캐시한다.
+ * - 실시간 조회수와 isLiked 등 개인화 정보는 캐시 조회 이후 ShortsResponseAssembler가 채운다.
+ * [무효화]
+ * - ShortsChangedEvent(게시/수정/삭제) 커밋 후 shorts:feed:version을 INCR 하여 기존 Redis 키를 모두 무효화한다.
+ * - 로컬 캐시는 즉시 비우고, 다른 인스턴스의 로컬 캐시는 near TTL 이내에 자연 만료된다.
+ */
+@Component
+public class ShortsFeedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsFeedCache.class);
+
+    private static final String VERSION_KEY = "shorts:feed:version";
+    private static final String KEY_PREFIX = "shorts:feed:";
+
+    private final Cache<String, CachedShortsPage> nearCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    private final Counter nearHit;
+    private final Counter nearMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public ShortsFeedCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${shorts.feed.cache.near-ttl-ms:3000}") long nearTtlMs,
+            @Value("${shorts.feed.cache.near-max-size:1000}") long nearMaxSize,
+            @Value("${shorts.feed.cache.redis-ttl-seconds:30}") long redisTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(nearTtlMs))
+                .maximumSize(nearMaxSize)
+                .build();
+
+        this.nearHit = counter(meterRegistry, "near", "hit");
+        this.nearMiss = counter(meterRegistry, "near", "miss");
+        this.redisHit = counter(meterRegistry, "redis", "hit");
+        this.redisMiss = counter(meterRegistry, "redis", "miss");
+        Gauge.builder("shorts.feed.cache.hit.ratio", this, ShortsFeedCache::hitRatio)
+                .description("피드 캐시 전체 적중률 (near + redis)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성 - (endpoint, 필터, page, size, sort)
+     */
+    public static String key(String endpoint, Object filter, Pageable pageable) {
+        String sort = pageable.getSort().isSorted()
+                ? pageable.getSort().toString().replace(" ", "")
+                : "unsorted";
+        return endpoint + ":" + (filter == null ? "-" : filter) + ":"
+                + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + sort;
+    }
+
+    /**
+     * near → Redis → loader 순으로 페이지를 조회하고, 하위 계층에서 찾은 값은 상위 계층에 채운다.
+     */
+    public CachedShortsPage getPage(String key, Supplier<CachedShortsPage> loader) {
+        CachedShortsPage near = nearCache.getIfPresent(key);
+        if (near != null) {
+            nearHit.increment();
+            return near;
+        }
+        nearMiss.increment();
+
+        String redisKey = null;
+        try {
+            redisKey = KEY_PREFIX + currentVersion() + ":" + key;
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                CachedShortsPage cached = objectMapper.readValue(json, CachedShortsPage.class);
+                redisHit.increment();
+                nearCache.put(key, cached);
+                return cached;
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("피드 캐시 조회 실패, DB 조회로 대체 - key={}", key, e);
+        }
+        redisMiss.increment();
+
+        CachedShortsPage value = loader.get();
+        nearCache.put(key, value);
+        if (redisKey != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), redisTtl);
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("피드 캐시 저장 실패 - key={}", key, e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 숏츠 게시/수정/삭제 커밋 후 피드 캐시 전체를 무효화한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShortsChanged(ShortsChangedEvent event) {
+        nearCache.invalidateAll();
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn("피드 캐시 버전 증가 실패 - shortsId={}", event.shortsId(), e);
+        }
+    }
+
+    private String currentVersion() {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY);
+        return version == null ? "0" : version;
+    }
+
+    private double hitRatio() {
+        double hits = nearHit.count() + redisHit.count();
+        double total = nearHit.count() + nearMiss.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter counter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("shorts.feed.cache")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 캐시 저장 형식 - Slice 대신 행, 키워드, 다음 페이지 여부만 보관하고, 조회 시 요청 Pageable로 복원한다.
+     * - totalElements는 정확한 전체 개수를 이미 알고 있는 경우(리더보드 ZCARD)에만 채우고, 그 외에는 null이다.
+     */
+    public record CachedShortsPage(List<ShortsRow> rows, Map<Long, List<String>> keywords, boolean hasNext, Long totalElements) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.shortudy.domain.shorts.controller;
 
+import com.example.shortudy.domain.shorts.dto.ShortsCursorPageResponse;
+import com.example.shortudy.domain.shorts.dto.ShortsCursorRequest;
 import com.example.shortudy.domain.shorts.dto.ShortsResponse;
 import com.example.shortudy.domain.shorts.dto.ShortsStatusDescriptionResponse;
 import com.example.shortudy.domain.shorts.dto.ShortsUpdateRequest;
@@ -7,12 +9,13 @@ import com.example.shortudy.domain.shorts.service.ShortsQueryService;
 import com.example.shortudy.domain.shorts.service.ShortsService;
 import com.example.shortudy.domain.shorts.view.service.ShortsViewCountService;
 import com.example.shortudy.global.common.ApiResponse;
+import com.example.shortudy.global.pagination.PageMode;
 import com.example.shortudy.global.security.principal.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -49,34 +52,73 @@ public class ShortsController {
 
     @GetMapping("/me")
     @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<Page<ShortsStatusDescriptionResponse>> getMyShorts(
+    public ApiResponse<Slice<ShortsStatusDescriptionResponse>> getMyShorts(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 20, sort = "id", direction = DESC) Pageable pageable
     ) {
-        Page<ShortsStatusDescriptionResponse> response = shortsQueryService.getMyShorts(userDetails.getId(), pageable);
+        Slice<ShortsStatusDescriptionResponse> response = shortsQueryService.getMyShorts(userDetails.getId(), pageable, PageMode.fromValue(mode));
         return ApiResponse.success(response);
     }
 
     @GetMapping("/popular")
     @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<Page<ShortsResponse>> getPopularShorts(
-            @RequestParam(required = false, defaultValue = "30") Integer days,
+    public ApiResponse<Slice<ShortsResponse>> getPopularShorts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 20, sort = "id", direction = DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails me
     ) {
         Long userId = (me != null) ? me.getId() : null;
-        Page<ShortsResponse> response = shortsQueryService.getPopularShorts(days, pageable, userId);
+        Slice<ShortsResponse> response = shortsQueryService.getPopularShorts(categoryId, pageable, userId, PageMode.fromValue(mode));
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ApiResponse<Slice<ShortsResponse>> searchShorts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long categoryId,
+            @PageableDefault(size = 20) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        Long userId = (me != null) ? me.getId() : null;
+        Slice<ShortsResponse> response = shortsQueryService.searchShorts(query, categoryId, pageable, userId);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/popular/feed")
+    @ResponseStatus(HttpStatus.OK)
+    public ApiResponse<ShortsCursorPageResponse> getPopularShortsFeed(
+            @Valid @ModelAttribute ShortsCursorRequest request,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        Long userId = (me != null) ? me.getId() : null;
+        ShortsCursorPageResponse response = shortsQueryService.getPopularShortsFeed(request.cursor(), request.size(), userId);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/feed")
+    @ResponseStatus(HttpStatus.OK)
+    public ApiResponse<ShortsCursorPageResponse> getShortsFeed(
+            @RequestParam(required = false) Long categoryId,
+            @Valid @ModelAttribute ShortsCursorRequest request,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        Long userId = (me != null) ? me.getId() : null;
+        ShortsCursorPageResponse response = shortsQueryService.getShortsFeed(categoryId, request.cursor(), request.size(), userId);
         return ApiResponse.success(response);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<Page<ShortsResponse>> getShortsList(
+    public ApiResponse<Slice<ShortsResponse>> getShortsList(
+            @RequestParam(required = false) String mode,
             @PageableDefault(size = 8, sort = {"id","likeCount"}, direction = DESC) Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails me
     ) {
         Long userId = (me != null) ? me.getId() : null;
-        Page<ShortsResponse> response = shortsQueryService.getShortsList(pageable, userId);
+        Slice<ShortsResponse> response = shortsQueryService.getShortsList(pageable, userId, PageMode.fromValue(mode));
         return ApiResponse.success(response);
     }
 
@@ -0,0 +1,47 @@
+package com.example.shortudy.domain.shorts.cursor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ * [구조]
+ * - score: 정렬 기준 값 (최신순은 createdAt 마이크로초, 인기순은 점수)
+ * - id: 동일 score 사이의 순서를 확정하는 tie-breaker
+ * [첫 페이지]
+ * - 커서가 없으면 모든 행보다 큰 sentinel 값으로 시작해 쿼리를 하나로 유지한다.
+ */
+public record ShortsCursor(long score, long id) {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public static ShortsCursor first() {
+        return new ShortsCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static ShortsCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new ShortsCursor(toMicros(createdAt), id);
+    }
+
+    public boolean isFirst() {
+        return score == Long.MAX_VALUE && id == Long.MAX_VALUE;
+    }
+
+    /**
+     * 최신순 커서의 score를 createdAt으로 되돌린다.
+     * - MySQL datetime(6) 정밀도(마이크로초)와 동일하게 인코딩하므로 손실 없이 복원된다.
+     */
+    public LocalDateTime createdAt() {
+        if (isFirst()) {
+            return MAX_CREATED_AT;
+        }
+        long seconds = Math.floorDiv(score, MICROS_PER_SECOND);
+        long micros = Math.floorMod(score, MICROS_PER_SECOND);
+        return LocalDateTime.ofEpochSecond(seconds, (int) (micros * 1_000), ZoneOffset.UTC);
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.shortudy.domain.shorts.cursor;
+
+import com.example.shortudy.global.error.BaseException;
+import com.example.shortudy.global.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 커서 토큰 인코더/디코더
+ * [토큰 형식]
+ * - base64url(scope|score|id) + "." + base64url(HMAC-SHA256 앞 16바이트)
+ * - scope(피드 종류 + 필터)를 서명에 포함해 다른 피드의 커서를 재사용할 수 없게 한다.
+ * [변조 방지]
+ * - 클라이언트는 토큰을 해석하지 않고 그대로 돌려보내기만 한다.
+ * - 서명이 맞지 않으면 INVALID_INPUT 예외를 던진다.
+ */
+@Component
+public class ShortsCursorCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final String DELIMITER = "|";
+
+    private final SecretKeySpec secretKey;
+
+    public ShortsCursorCodec(@Value("${shorts.cursor.secret:${jwt.secret}}") String secret) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public String encode(String scope, ShortsCursor cursor) {
+        String payload = scope + DELIMITER + cursor.score() + DELIMITER + cursor.id();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * 토큰을 검증하고 커서로 복원한다. 토큰이 비어 있으면 첫 페이지 커서를 반환한다.
+     */
+    public ShortsCursor decode(String scope, String token) {
+        if (token == null || token.isBlank()) {
+            return ShortsCursor.first();
+        }
+
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            throw invalidCursor();
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                throw invalidCursor();
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\" + DELIMITER);
+            if (parts.length != 3 || !parts[0].equals(scope)) {
+                throw invalidCursor();
+            }
+            return new ShortsCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명을 생성할 수 없습니다.", e);
+        }
+    }
+
+    private BaseException invalidCursor() {
+        return new BaseException(ErrorCode.INVALID_INPUT, "cursor: 값이 올바르지 않습니다.");
+    }
+}
@@ -9,15 +9,22 @@ public class ShortsCursorPageResponse {
     private final boolean hasNext;
     private final Long nextCursorId;
     private final Long nextCursorScore;
+    // 다음 페이지 요청 시 그대로 전달하는 서명된 커서 토큰 (마지막 페이지면 null)
+    private final String nextCursor;
 
-    public ShortsCursorPageResponse(List<ShortsResponse> shorts, boolean hasNext, Long nextCursorId, Long nextCursorScore) {
+    public ShortsCursorPageResponse(List<ShortsResponse> shorts, boolean hasNext, Long nextCursorId, Long nextCursorScore, String nextCursor) {
         this.shorts = shorts;
         this.hasNext = hasNext;
         this.nextCursorId = nextCursorId;
         this.nextCursorScore = nextCursorScore;
+        this.nextCursor = nextCursor;
     }
 
-    public static ShortsCursorPageResponse of(List<ShortsResponse> shorts, boolean hasNext, Long nextCursorId, Long nextCursorScore) {
-        return new ShortsCursorPageResponse(shorts, hasNext, nextCursorId, nextCursorScore);
+    public static ShortsCursorPageResponse of(List<ShortsResponse> shorts, boolean hasNext, Long nextCursorId, Long nextCursorScore, String nextCursor) {
+        return new ShortsCursorPageResponse(shorts, hasNext, nextCursorId, nextCursorScore, nextCursor);
     }
-}
\ No newline at end of file
+
+    public static ShortsCursorPageResponse last(List<ShortsResponse> shorts) {
+        return new ShortsCursorPageResponse(shorts, false, null, null, null);
+    }
+}
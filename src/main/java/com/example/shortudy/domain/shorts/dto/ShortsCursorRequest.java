@@ -0,0 +1,18 @@
+package com.example.shortudy.domain.shorts.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 커서 기반 피드 요청
+ * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+ * - size: 페이지 크기 (기본 10, 최대 50)
+ */
+public record ShortsCursorRequest(
+        String cursor,
+        @Min(1) @Max(50) Integer size
+) {
+    public ShortsCursorRequest {
+        if (size == null) size = 10;
+    }
+}
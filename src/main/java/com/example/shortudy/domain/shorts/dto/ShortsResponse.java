@@ -64,6 +64,18 @@ public record ShortsResponse(
 
     private static final String UNKNOWN_UPLOADER_NICKNAME = "알 수 없음";
 
+    /**
+     * 조회 프로젝션과 페이지 단위 부가 정보로 응답을 생성합니다. (ShortsResponseAssembler 전용, 행마다 1회 생성)
+     */
+    public static ShortsResponse of(ShortsRow row, List<String> keywords, long viewCount, String fullProfileUrl, boolean isLiked) {
+        return new ShortsResponse(
+                row.shortsId(), row.title(), row.description(), row.videoUrl(), row.thumbnailUrl(),
+                row.durationSec(), row.status(), row.visibility(), row.userId(), row.userNickname(),
+                fullProfileUrl, row.categoryId(), row.categoryName(), keywords,
+                viewCount, row.likeCount(), row.commentCount(), row.createdAt(), row.updatedAt(), isLiked
+        );
+    }
+
     /**
      * Shorts 엔티티와 집계된 카운트 정보를 ShortsResponse DTO로 변환합니다.
      * 주의: uploaderProfileUrl은 S3 키 값이므로, 서비스 레이어에서 전체 URL로 변환이 필요할 수 있습니다.
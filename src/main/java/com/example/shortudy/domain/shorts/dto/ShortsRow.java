@@ -0,0 +1,35 @@
+package com.example.shortudy.domain.shorts.dto;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 숏츠 목록/상세 조회용 JPQL 프로젝션
+ * - DB에서 한 번에 가져올 수 있는 값만 담는다. (키워드, 실시간 조회수, 좋아요 여부, 프로필 전체 URL 제외)
+ * - 응답 DTO는 ShortsResponseAssembler가 페이지 단위 부가 정보를 모은 뒤 행마다 한 번만 생성한다.
+ * - 사용자와 무관한 값만 담으므로 피드 캐시에 그대로 저장할 수 있다.
+ */
+public record ShortsRow(
+        Long shortsId,
+        String title,
+        String description,
+        String videoUrl,
+        String thumbnailUrl,
+        Integer durationSec,
+        ShortsStatus status,
+        ShortsVisibility visibility,
+        Long userId,
+        String userNickname,
+        String userProfileKey,
+        Long categoryId,
+        String categoryName,
+        Long viewCount,
+        Integer likeCount,
+        Long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long trendingScore
+) {
+}
@@ -28,29 +28,30 @@ public record ShortsStatusDescriptionResponse(
     LocalDateTime updatedAt,
     Boolean isLiked
 ) {
-    public static ShortsStatusDescriptionResponse of(ShortsResponse response, String shortsStatusDescription) {
+    public static ShortsStatusDescriptionResponse of(ShortsRow row, String shortsStatusDescription, List<String> keywords,
+                                                     long viewCount, String fullProfileUrl, boolean isLiked) {
         return new ShortsStatusDescriptionResponse(
-            response.shortsId(),
-            response.title(),
-            response.description(),
-            response.videoUrl(),
-            response.thumbnailUrl(),
-            response.durationSec(),
-            response.status(),
+            row.shortsId(),
+            row.title(),
+            row.description(),
+            row.videoUrl(),
+            row.thumbnailUrl(),
+            row.durationSec(),
+            row.status(),
             shortsStatusDescription,
-            response.visibility(),
-            response.userId(),
-            response.userNickname(),
-            response.userProfileUrl(),
-            response.categoryId(),
-            response.categoryName(),
-            response.keywords(),
-            response.viewCount(),
-            response.likeCount(),
-            response.commentCount(),
-            response.createdAt(),
-            response.updatedAt(),
-            response.isLiked()
+            row.visibility(),
+            row.userId(),
+            row.userNickname(),
+            fullProfileUrl,
+            row.categoryId(),
+            row.categoryName(),
+            keywords,
+            viewCount,
+            row.likeCount(),
+            row.commentCount(),
+            row.createdAt(),
+            row.updatedAt(),
+            isLiked
         );
     }
 }
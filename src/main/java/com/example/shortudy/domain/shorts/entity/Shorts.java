@@ -2,9 +2,11 @@ package com.example.shortudy.domain.shorts.entity;
 
 import com.example.shortudy.domain.category.entity.Category;
 import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.shorts.trending.support.TrendingScoreCalculator;
 import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,9 +14,8 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -27,13 +28,26 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "shorts")
+@Table(name = "shorts", indexes = {
+        // [주의] 인덱스 변경 시 db/vendor/mysql 에 버전 마이그레이션을 함께 추가한다.
+        // 인기 목록: status/visibility 동등 조건 + trending_score 역순 인덱스 범위 읽기
+        @Index(name = "idx_shorts_trending", columnList = "status, visibility, trending_score, id"),
+        // 카테고리 인기 목록
+        @Index(name = "idx_shorts_category_trending", columnList = "category_id, status, visibility, trending_score, id"),
+        // 최신 피드: (created_at, id) 커서를 인덱스 순서 그대로 읽는다 (filesort 없음)
+        @Index(name = "idx_shorts_feed", columnList = "status, visibility, created_at, id"),
+        // 카테고리 최신 피드
+        @Index(name = "idx_shorts_category_feed", columnList = "category_id, status, visibility, created_at, id"),
+        // 내 숏츠 목록
+        @Index(name = "idx_shorts_user_created", columnList = "user_id, created_at, id")
+})
 public class Shorts {
 
     private static final Pattern URL_PATTERN = Pattern.compile(
@@ -45,7 +59,7 @@ public class Shorts {
     private static final int MAX_URL_LENGTH = 500;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -77,6 +91,16 @@ public class Shorts {
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
 
+    // ACTIVE 댓글 + 대댓글 수 (비정규화)
+    // 엔티티 flush로 동시 증감분을 덮어쓰지 않도록 updatable = false, 변경은 ShortsRepository 벌크 쿼리로만 수행한다.
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 시간 감쇠 트렌딩 점수 (TrendingScoreCalculator)
+    // 카운터가 바뀐 숏츠만 ShortsTrendingService가 벌크 쿼리로 갱신하므로 updatable = false
+    @Column(name = "trending_score", nullable = false, updatable = false)
+    private Long trendingScore = 0L;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -128,6 +152,7 @@ public class Shorts {
         if (status == ShortsStatus.PUBLISHED) {
             this.publishedAt = LocalDateTime.now();
         }
+        this.trendingScore = TrendingScoreCalculator.calculate(0, 0, 0, LocalDateTime.now());
         this.shortsKeywords = new ArrayList<>();
     }
 
@@ -231,6 +256,27 @@ public class Shorts {
         this.shortsKeywords.clear();
     }
 
+    /**
+     * 키워드 목록 교체 (diff 적용)
+     * - 빠진 키워드의 연관만 제거(orphanRemoval로 DELETE)하고, 새로 생긴 키워드만 추가(INSERT)한다.
+     * - 변경이 없으면 아무 쿼리도 발생하지 않는다.
+     * - 같은 (shorts, keyword) 쌍을 지웠다가 다시 넣지 않으므로 중간 flush 없이도 유니크 제약에 걸리지 않는다.
+     */
+    public void replaceKeywords(List<Keyword> keywords) {
+        Set<Long> nextIds = keywords.stream()
+                .map(Keyword::getId)
+                .collect(Collectors.toSet());
+
+        this.shortsKeywords.removeIf(sk -> !nextIds.contains(sk.getKeyword().getId()));
+
+        Set<Long> currentIds = this.shortsKeywords.stream()
+                .map(sk -> sk.getKeyword().getId())
+                .collect(Collectors.toSet());
+        keywords.stream()
+                .filter(keyword -> !currentIds.contains(keyword.getId()))
+                .forEach(this::addKeyword);
+    }
+
     private void validateTitle(String title) {
         if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
             throw new BaseException(ErrorCode.SHORTS_TITLE_INVALID);
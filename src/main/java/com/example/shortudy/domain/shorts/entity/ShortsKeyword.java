@@ -1,6 +1,7 @@
 package com.example.shortudy.domain.shorts.entity;
 
 import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -13,7 +14,7 @@ import lombok.Getter;
 public class ShortsKeyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,26 @@
+package com.example.shortudy.domain.shorts.event;
+
+/**
+ * 숏츠 변경 이벤트
+ * - 공개 피드에 노출되는 내용이 바뀌었을 때 발행하며, 피드 캐시 무효화 등에 사용한다.
+ */
+public record ShortsChangedEvent(Long shortsId, ChangeType type) {
+
+    public enum ChangeType {
+        PUBLISHED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ShortsChangedEvent published(Long shortsId) {
+        return new ShortsChangedEvent(shortsId, ChangeType.PUBLISHED);
+    }
+
+    public static ShortsChangedEvent updated(Long shortsId) {
+        return new ShortsChangedEvent(shortsId, ChangeType.UPDATED);
+    }
+
+    public static ShortsChangedEvent deleted(Long shortsId) {
+        return new ShortsChangedEvent(shortsId, ChangeType.DELETED);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.shortudy.domain.shorts.event;
+
+/**
+ * 숏츠 초안 저장 이벤트
+ * - 업로드 흐름에서 아직 게시되지 않은(PENDING) 숏츠를 저장했을 때 발행한다.
+ * - 공개 피드에는 영향이 없으므로 ShortsChangedEvent와 달리 피드 캐시를 무효화하지 않고, 검색 색인만 갱신한다.
+ */
+public record ShortsDraftSavedEvent(Long shortsId) {
+}
@@ -0,0 +1,23 @@
+package com.example.shortudy.domain.shorts.event;
+
+/**
+ * 숏츠 참여 지표 변경 이벤트
+ * - 좋아요/댓글처럼 인기 점수에 영향을 주는 카운터가 바뀌었을 때 발행한다.
+ * - delta는 증감량이다. (취소/삭제 시 음수)
+ * - categoryId는 카테고리별 리더보드 갱신에 사용한다.
+ */
+public record ShortsEngagementEvent(Long shortsId, Long categoryId, Type type, long delta) {
+
+    public enum Type {
+        LIKE,
+        COMMENT
+    }
+
+    public static ShortsEngagementEvent like(Long shortsId, Long categoryId, long delta) {
+        return new ShortsEngagementEvent(shortsId, categoryId, Type.LIKE, delta);
+    }
+
+    public static ShortsEngagementEvent comment(Long shortsId, Long categoryId, long delta) {
+        return new ShortsEngagementEvent(shortsId, categoryId, Type.COMMENT, delta);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.shortudy.domain.shorts.random;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 숏츠 샘플러
+ * [배경]
+ * - ORDER BY rand()는 호출마다 발행된 전체 행에 난수를 매겨 정렬하므로, 카탈로그가 커질수록 랜덤 탐색이 느려진다.
+ * [동작 방식]
+ * 1. 발행(PUBLISHED) + 공개(PUBLIC) 숏츠 ID만 인덱스로 읽어 메모리 ID 풀(long[])로 보관한다.
+ * 2. 샘플링은 Floyd 알고리즘으로 서로 다른 인덱스 N개를 뽑은 뒤 섞는다. → 테이블 정렬 없이 O(N)
+ * 3. ShortsChangedEvent(게시/수정/삭제) 커밋 후 바뀐 ID 하나만 풀에 넣거나 뺀다. (전체 재적재 없이 PK 조회 1회)
+ *    - 삭제: 바로 제거 / 게시·수정: 지금 발행 + 공개 상태인지 확인해 넣거나 뺀다.
+ * 4. 다른 인스턴스/경로의 변경을 반영하기 위해 일정 주기(full-reload-interval-ms)마다 전체를 다시 적재한다.
+ * [주의]
+ * - 풀이 잠시 오래될 수 있으므로, 호출측은 ID로 다시 조회할 때 상태/공개 여부를 한 번 더 조건으로 건다.
+ */
+@Component
+public class ShortsRandomSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsRandomSampler.class);
+
+    private final ShortsRepository shortsRepository;
+    private final long fullReloadIntervalMs;
+
+    private volatile long[] pool;
+    private volatile long loadedAt;
+
+    public ShortsRandomSampler(ShortsRepository shortsRepository,
+                               @Value("${shorts.random.full-reload-interval-ms:300000}") long fullReloadIntervalMs) {
+        this.shortsRepository = shortsRepository;
+        this.fullReloadIntervalMs = fullReloadIntervalMs;
+    }
+
+    /**
+     * 풀에서 서로 다른 숏츠 ID를 최대 size개 무작위로 반환합니다.
+     *
+     * @param size      뽑을 개수
+     * @param excludeIds 결과에서 제외할 ID (기준 숏츠, 이미 수집된 후보 등)
+     */
+    public List<Long> sample(int size, Collection<Long> excludeIds) {
+        long[] ids = currentPool();
+        if (size <= 0 || ids.length == 0) {
+            return List.of();
+        }
+
+        // 제외 대상이 뽑힐 수 있으므로 그만큼 더 뽑은 뒤 걸러낸다.
+        int draw = Math.min(ids.length, size + excludeIds.size());
+        List<Long> result = new ArrayList<>(size);
+        for (int index : distinctIndexes(ids.length, draw)) {
+            long id = ids[index];
+            if (!excludeIds.contains(id)) {
+                result.add(id);
+                if (result.size() == size) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재 풀 크기 (발행 + 공개 숏츠 수의 근사값)
+     */
+    public int size() {
+        return currentPool().length;
+    }
+
+    /**
+     * 숏츠 게시/수정/삭제 커밋 후 바뀐 ID만 풀에 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShortsChanged(ShortsChangedEvent event) {
+        if (pool == null) {
+            return; // 아직 적재 전이면 첫 적재에 포함된다.
+        }
+        boolean eligible;
+        try {
+            eligible = event.type() != ShortsChangedEvent.ChangeType.DELETED
+                    && shortsRepository.existsByIdAndStatusAndVisibility(event.shortsId(), ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC);
+        } catch (DataAccessException e) {
+            log.warn("랜덤 샘플링 풀 반영 실패 - 다음 전체 적재에서 반영됩니다. shortsId={}", event.shortsId(), e);
+            return;
+        }
+        if (eligible) {
+            add(event.shortsId());
+        } else {
+            remove(event.shortsId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shorts.random.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (pool == null) {
+            return;
+        }
+        if (System.currentTimeMillis() - loadedAt >= fullReloadIntervalMs) {
+            reload();
+        }
+    }
+
+    // 풀은 읽기 전용 배열로 공유하므로, 바꿀 때는 복사본을 만들어 교체한다.
+    private synchronized void add(long id) {
+        long[] current = pool;
+        if (indexOf(current, id) >= 0) {
+            return;
+        }
+        long[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = id;
+        pool = updated;
+    }
+
+    private synchronized void remove(long id) {
+        long[] current = pool;
+        int index = indexOf(current, id);
+        if (index < 0) {
+            return;
+        }
+        long[] updated = Arrays.copyOf(current, current.length - 1);
+        if (index < updated.length) {
+            updated[index] = current[current.length - 1]; // 순서는 의미가 없으므로 마지막 원소로 채운다.
+        }
+        pool = updated;
+    }
+
+    private static int indexOf(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long[] currentPool() {
+        long[] current = pool;
+        return current != null ? current : reload();
+    }
+
+    private synchronized long[] reload() {
+        List<Long> ids = shortsRepository.findPublicPublishedIds();
+        long[] loaded = new long[ids.size()];
+        for (int i = 0; i < loaded.length; i++) {
+            loaded[i] = ids.get(i);
+        }
+        pool = loaded;
+        loadedAt = System.currentTimeMillis();
+        log.debug("랜덤 샘플링 풀 적재 완료 - size={}", loaded.length);
+        return loaded;
+    }
+
+    /**
+     * [0, bound) 범위에서 서로 다른 정수 count개를 무작위 순서로 반환합니다. (Floyd 샘플링 + 셔플)
+     */
+    static List<Integer> distinctIndexes(int bound, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>(count * 2);
+        List<Integer> result = new ArrayList<>(count);
+        for (int j = bound - count; j < bound; j++) {
+            int t = random.nextInt(j + 1);
+            int chosen = picked.add(t) ? t : j;
+            if (chosen == j) {
+                picked.add(j);
+            }
+            result.add(chosen);
+        }
+        Collections.shuffle(result, random);
+        return result;
+    }
+}
@@ -2,12 +2,13 @@ package com.example.shortudy.domain.shorts.repository;
 
 import com.example.shortudy.domain.comment.entity.Comment;
 import com.example.shortudy.domain.like.entity.ShortsLike;
-import com.example.shortudy.domain.shorts.dto.ShortsResponse;
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
 import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.shorts.entity.ShortsStatus;
 import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -30,11 +31,77 @@ public interface ShortsRepository extends JpaRepository<Shorts, Long> {
     @Query("UPDATE Shorts s SET s.viewCount = s.viewCount + :count WHERE s.id = :id")
     void updateViewCount(@Param("id") Long id, @Param("count") Long count);
 
+    /**
+     * [댓글 수 원자적 증감]
+     * 1. 목적: 댓글 작성/삭제 시 comment_count를 read-modify-write 없이 DB에서 직접 증감합니다.
+     * 2. 로직: 음수가 되지 않도록 0에서 하한을 둡니다. (드리프트는 정합성 보정 배치가 바로잡음)
+     */
+    @Modifying
+    @Query("UPDATE Shorts s SET s.commentCount = " +
+            "CASE WHEN s.commentCount + :delta < 0 THEN 0 ELSE s.commentCount + :delta END " +
+            "WHERE s.id = :id")
+    void increaseCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * [댓글 수 정합성 보정]
+     * 1. 목적: 증감 누락 등으로 어긋난 comment_count를 실제 ACTIVE 댓글 수로 되돌립니다.
+     * 2. 로직: id 구간 단위로 실행하여 한 번에 잠그는 행 수를 제한하고, 값이 다른 행만 갱신합니다.
+     * 3. 반환: 보정된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Shorts s SET s.commentCount = " +
+            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s AND cm.status = 'ACTIVE') " +
+            "WHERE s.id BETWEEN :fromId AND :toId " +
+            "AND s.commentCount <> (SELECT count(cm) FROM Comment cm WHERE cm.shorts = s AND cm.status = 'ACTIVE')")
+    int reconcileCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * [id 구간 분할용 키셋 조회]
+     * afterId 다음 id를 오름차순으로 최대 pageable.size개 조회합니다.
+     * (시간 정렬 ID는 연속되지 않으므로 고정 폭 id 구간 대신 실제 id로 구간을 나눕니다.)
+     */
+    @Query("SELECT s.id FROM Shorts s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * [트렌딩 점수 계산 원천 조회]
+     * 점수 계산에 필요한 카운터와 게시 시각만 스칼라로 조회합니다.
+     */
+    @Query("SELECT s.id AS shortsId, s.viewCount AS viewCount, s.likeCount AS likeCount, " +
+            "s.commentCount AS commentCount, coalesce(s.publishedAt, s.createdAt) AS publishedAt " +
+            "FROM Shorts s WHERE s.id IN :ids")
+    List<TrendingSourceProjection> findTrendingSources(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id AS shortsId, s.viewCount AS viewCount, s.likeCount AS likeCount, " +
+            "s.commentCount AS commentCount, coalesce(s.publishedAt, s.createdAt) AS publishedAt " +
+            "FROM Shorts s WHERE s.id BETWEEN :fromId AND :toId")
+    List<TrendingSourceProjection> findTrendingSourcesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface TrendingSourceProjection {
+        Long getShortsId();
+
+        Long getViewCount();
+
+        Integer getLikeCount();
+
+        Long getCommentCount();
+
+        LocalDateTime getPublishedAt();
+    }
+
+    /**
+     * [트렌딩 점수 갱신]
+     * trending_score는 엔티티 flush로 갱신되지 않으므로(updatable = false) 벌크 쿼리로만 변경합니다.
+     */
+    @Modifying
+    @Query("UPDATE Shorts s SET s.trendingScore = :score WHERE s.id = :id AND s.trendingScore <> :score")
+    int updateTrendingScore(@Param("id") Long id, @Param("score") Long score);
+
     /**
      * [상세 조회 통합 쿼리 상세 분석]
      * JPQL의 'new' 생성자 방식에서는 반드시 클래스의 전체 패키지 경로(FQN)를 적어야 합니다.
      * 
-     * 생성자 파라미터 매핑:
+     * 생성자 파라미터 매핑 (ShortsRow):
      * 1. s.id           -> 숏츠 ID
      * 2. s.title        -> 제목
      * 3. s.description  -> 설명
@@ -45,104 +112,282 @@ public interface ShortsRepository extends JpaRepository<Shorts, Long> {
      * 8. s.visibility   -> 공개 여부
      * 9. u.id           -> 작성자 ID
      * 10. u.nickname    -> 작성자 닉네임
-     * 11. u.profileUrl  -> 작성자 프로필 URL
+     * 11. u.profileUrl  -> 작성자 프로필 키 (전체 URL 변환은 Assembler에서 수행)
      * 12. c.id          -> 카테고리 ID
      * 13. c.name        -> 카테고리명
-     * 14. null          -> 키워드 목록 (JPQL 생성자 내 컬렉션 주입 불가로 인한 placeholder)
-     * 15. s.viewCount   -> 조회수
-     * 16. s.likeCount   -> 좋아요수
-     * 17. (Subquery 1)  -> 댓글 총 개수
-     * 18. s.createdAt   -> 생성 일시
-     * 19. s.updatedAt   -> 수정 일시
-     * 20. (Subquery 2)  -> 로그인 유저의 좋아요 여부
-     */
-    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsResponse(" +
+     * 14. s.viewCount   -> 조회수 (DB 반영분)
+     * 15. s.likeCount   -> 좋아요수
+     * 16. s.commentCount -> 댓글 총 개수 (비정규화 컬럼)
+     * 17. s.createdAt   -> 생성 일시
+     * 18. s.updatedAt   -> 수정 일시
+     * 키워드, 실시간 조회수, 좋아요 여부는 ShortsResponseAssembler가 페이지 단위로 채웁니다.
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
             "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
             "u.id, u.nickname, u.profileUrl, " +
             "c.id, c.name, " +
-            "null, " + 
             "s.viewCount, s.likeCount, " +
-            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s), " +
-            "s.createdAt, s.updatedAt, " +
-            "(SELECT count(l) > 0 FROM ShortsLike l WHERE l.shorts = s AND l.user.id = :userId)) " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
             "FROM Shorts s " +
             "JOIN s.user u " +
             "JOIN s.category c " +
             "WHERE s.id = :id " +
             "AND ((s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC') OR s.user.id = :userId)")
-    Optional<ShortsResponse> findResponseById(@Param("id") Long id, @Param("userId") Long userId);
+    Optional<ShortsRow> findResponseById(@Param("id") Long id, @Param("userId") Long userId);
 
     /**
      * [전체 목록 조회 쿼리]
      */
-    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsResponse(" +
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
             "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
             "u.id, u.nickname, u.profileUrl, " +
             "c.id, c.name, " +
-            "null, " + 
             "s.viewCount, s.likeCount, " +
-            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s), " +
-            "s.createdAt, s.updatedAt, " +
-            "(SELECT count(l) > 0 FROM ShortsLike l WHERE l.shorts = s AND l.user.id = :userId)) " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
             "FROM Shorts s " +
             "JOIN s.user u " +
             "JOIN s.category c " +
             "WHERE s.status = :status AND s.visibility = 'PUBLIC'")
-    Page<ShortsResponse> findResponsesByStatus(@Param("status") ShortsStatus status, @Param("userId") Long userId, Pageable pageable);
+    Slice<ShortsRow> findResponsesByStatus(@Param("status") ShortsStatus status, Pageable pageable);
 
     /**
      * [카테고리별 필터링 조회]
      */
-    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsResponse(" +
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
             "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
             "u.id, u.nickname, u.profileUrl, " +
             "c.id, c.name, " +
-            "null, " + 
             "s.viewCount, s.likeCount, " +
-            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s), " +
-            "s.createdAt, s.updatedAt, " +
-            "(SELECT count(l) > 0 FROM ShortsLike l WHERE l.shorts = s AND l.user.id = :userId)) " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
             "FROM Shorts s " +
             "JOIN s.user u " +
             "JOIN s.category c " +
             "WHERE s.category.id = :categoryId AND s.status = :status AND s.visibility = 'PUBLIC'")
-    Page<ShortsResponse> findResponsesByCategoryIdAndStatus(@Param("categoryId") Long categoryId, @Param("status") ShortsStatus status, @Param("userId") Long userId, Pageable pageable);
+    Slice<ShortsRow> findResponsesByCategoryIdAndStatus(@Param("categoryId") Long categoryId, @Param("status") ShortsStatus status, Pageable pageable);
 
     /**
      * [인기 숏츠 조회]
+     * 시간 감쇠 트렌딩 점수 역순으로 조회합니다. (idx_shorts_trending 인덱스 범위 읽기, 정렬은 쿼리에 고정)
      */
-    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsResponse(" +
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
             "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
             "u.id, u.nickname, u.profileUrl, " +
             "c.id, c.name, " +
-            "null, " + 
             "s.viewCount, s.likeCount, " +
-            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s), " +
-            "s.createdAt, s.updatedAt, " +
-            "(SELECT count(l) > 0 FROM ShortsLike l WHERE l.shorts = s AND l.user.id = :userId)) " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
             "FROM Shorts s " +
             "JOIN s.user u " +
             "JOIN s.category c " +
-            "WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' AND s.createdAt >= :since")
-    Page<ShortsResponse> findPopularResponses(@Param("since") LocalDateTime since, @Param("userId") Long userId, Pageable pageable);
+            "WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "ORDER BY s.trendingScore DESC, s.id DESC")
+    Slice<ShortsRow> findPopularResponses(Pageable pageable);
+
+    /**
+     * [카테고리 인기 숏츠 조회]
+     * 리더보드가 요청 구간을 채우지 못할 때(콜드 스타트, 깊은 페이지, Redis 장애) 사용하는 DB 경로입니다.
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
+            "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
+            "u.id, u.nickname, u.profileUrl, " +
+            "c.id, c.name, " +
+            "s.viewCount, s.likeCount, " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
+            "FROM Shorts s " +
+            "JOIN s.user u " +
+            "JOIN s.category c " +
+            "WHERE s.category.id = :categoryId AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "ORDER BY s.trendingScore DESC, s.id DESC")
+    Slice<ShortsRow> findPopularResponsesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * [트렌딩 점수 상위 K개 조회]
+     * 리더보드(Redis ZSET) 초기 적재용으로 ID, 카테고리, 점수만 조회합니다. (idx_shorts_trending / idx_shorts_category_trending)
+     */
+    @Query("SELECT s.id AS shortsId, s.category.id AS categoryId, s.trendingScore AS trendingScore " +
+            "FROM Shorts s " +
+            "WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "ORDER BY s.trendingScore DESC, s.id DESC")
+    List<TrendingTopProjection> findTopTrending(Pageable pageable);
+
+    @Query("SELECT s.id AS shortsId, s.category.id AS categoryId, s.trendingScore AS trendingScore " +
+            "FROM Shorts s " +
+            "WHERE s.category.id = :categoryId AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "ORDER BY s.trendingScore DESC, s.id DESC")
+    List<TrendingTopProjection> findTopTrendingByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    interface TrendingTopProjection {
+        Long getShortsId();
+
+        Long getCategoryId();
+
+        Long getTrendingScore();
+    }
+
+    /**
+     * [ID 목록 일괄 조회]
+     * 리더보드 등 외부에서 순위가 정해진 ID를 한 번의 IN 쿼리로 채웁니다. (순서는 호출측에서 맞춤)
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
+            "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
+            "u.id, u.nickname, u.profileUrl, " +
+            "c.id, c.name, " +
+            "s.viewCount, s.likeCount, " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
+            "FROM Shorts s " +
+            "JOIN s.user u " +
+            "JOIN s.category c " +
+            "WHERE s.id IN :ids AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'")
+    List<ShortsRow> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * [검색 색인 원천 조회]
+     * 검색 색인 문서에 필요한 컬럼만 읽습니다. 키워드명은 findKeywordIdsByShortsIds + KeywordDictionary로 채웁니다.
+     */
+    @Query("SELECT s.id AS shortsId, s.title AS title, s.description AS description, s.category.id AS categoryId, " +
+            "s.status AS status, s.visibility AS visibility, " +
+            "s.viewCount AS viewCount, s.likeCount AS likeCount, s.commentCount AS commentCount " +
+            "FROM Shorts s WHERE s.id IN :ids")
+    List<ShortsSearchSourceProjection> findSearchSources(@Param("ids") Collection<Long> ids);
+
+    interface ShortsSearchSourceProjection {
+        Long getShortsId();
+
+        String getTitle();
+
+        String getDescription();
+
+        Long getCategoryId();
+
+        ShortsStatus getStatus();
+
+        ShortsVisibility getVisibility();
+
+        Long getViewCount();
+
+        Integer getLikeCount();
+
+        Long getCommentCount();
+    }
+
+    /**
+     * [숏츠별 카테고리 ID 조회]
+     */
+    @Query("SELECT s.id AS shortsId, s.category.id AS categoryId FROM Shorts s WHERE s.id IN :ids")
+    List<ShortsCategoryIdProjection> findCategoryIdsByIds(@Param("ids") Collection<Long> ids);
+
+    interface ShortsCategoryIdProjection {
+        Long getShortsId();
+
+        Long getCategoryId();
+    }
+
+    /**
+     * [목록 전체 개수]
+     * 목록 조회는 Slice로만 하고, Page 응답의 전체 개수는 ApproximateCountCache를 통해 아래 쿼리로 주기적으로 갱신합니다.
+     */
+    long countByStatusAndVisibility(ShortsStatus status, ShortsVisibility visibility);
+
+    long countByCategoryIdAndStatusAndVisibility(Long categoryId, ShortsStatus status, ShortsVisibility visibility);
+
+    long countByUserId(Long userId);
+
+
+    /**
+     * [최신 피드 키셋 조회]
+     * 1. 목적: OFFSET/COUNT 없이 (createdAt, id) 기준으로 다음 페이지를 바로 찾아갑니다.
+     * 2. 로직: 이전 페이지 마지막 행보다 "작은" 행만 조회하므로 스크롤 깊이와 무관하게 비용이 일정합니다.
+     * 3. 제한: Pageable은 LIMIT(size + 1) 용도로만 사용하며, 정렬은 쿼리에 고정합니다.
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
+            "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
+            "u.id, u.nickname, u.profileUrl, " +
+            "c.id, c.name, " +
+            "s.viewCount, s.likeCount, " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
+            "FROM Shorts s " +
+            "JOIN s.user u " +
+            "JOIN s.category c " +
+            "WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.id < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<ShortsRow> findFeedResponses(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    /**
+     * [카테고리별 최신 피드 키셋 조회]
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
+            "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
+            "u.id, u.nickname, u.profileUrl, " +
+            "c.id, c.name, " +
+            "s.viewCount, s.likeCount, " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
+            "FROM Shorts s " +
+            "JOIN s.user u " +
+            "JOIN s.category c " +
+            "WHERE s.category.id = :categoryId AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.id < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<ShortsRow> findFeedResponsesByCategoryId(@Param("categoryId") Long categoryId, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    /**
+     * [인기 피드 키셋 조회]
+     * (trendingScore, id) 기준으로 seek 합니다. 점수가 같은 경우 id로 순서를 확정합니다.
+     */
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
+            "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
+            "u.id, u.nickname, u.profileUrl, " +
+            "c.id, c.name, " +
+            "s.viewCount, s.likeCount, " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
+            "FROM Shorts s " +
+            "JOIN s.user u " +
+            "JOIN s.category c " +
+            "WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' " +
+            "AND (s.trendingScore < :cursorScore OR (s.trendingScore = :cursorScore AND s.id < :cursorId)) " +
+            "ORDER BY s.trendingScore DESC, s.id DESC")
+    List<ShortsRow> findPopularFeedResponses(@Param("cursorScore") Long cursorScore, @Param("cursorId") Long cursorId, Pageable pageable);
 
     /**
      * [내 숏츠 조회]
      */
-    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsResponse(" +
+    @Query("SELECT new com.example.shortudy.domain.shorts.dto.ShortsRow(" +
             "s.id, s.title, s.description, s.videoUrl, s.thumbnailUrl, s.durationSec, s.status, s.visibility, " +
             "u.id, u.nickname, u.profileUrl, " +
             "c.id, c.name, " +
-            "null, " + 
             "s.viewCount, s.likeCount, " +
-            "(SELECT count(cm) FROM Comment cm WHERE cm.shorts = s), " +
-            "s.createdAt, s.updatedAt, " +
-            "(SELECT count(l) > 0 FROM ShortsLike l WHERE l.shorts = s AND l.user.id = :userId)) " +
+            "s.commentCount, " +
+            "s.createdAt, s.updatedAt, s.trendingScore) " +
             "FROM Shorts s " +
             "JOIN s.user u " +
             "JOIN s.category c " +
             "WHERE s.user.id = :userId")
-    Page<ShortsResponse> findMyResponses(@Param("userId") Long userId, Pageable pageable);
+    Slice<ShortsRow> findMyResponses(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * [키워드 ID 배치 조회]
+     * shorts_keyword 테이블만 읽어 (숏츠 ID, 키워드 ID) 쌍을 조회합니다. 키워드명은 KeywordDictionary에서 채웁니다.
+     * 등록 순서를 유지하기 위해 sk.id로 정렬합니다.
+     */
+    @Query("SELECT sk.shorts.id AS shortsId, sk.keyword.id AS keywordId " +
+            "FROM ShortsKeyword sk " +
+            "WHERE sk.shorts.id IN :shortsIds " +
+            "ORDER BY sk.id")
+    List<ShortsKeywordIdProjection> findKeywordIdsByShortsIds(@Param("shortsIds") Collection<Long> shortsIds);
+
+    interface ShortsKeywordIdProjection {
+        Long getShortsId();
+
+        Long getKeywordId();
+    }
 
     /**
      * [엔티티 상세 조회 - Keywords 포함]
@@ -173,12 +418,24 @@ public interface ShortsRepository extends JpaRepository<Shorts, Long> {
     Page<Shorts> findByStatusAndVisibility(ShortsStatus status, ShortsVisibility visibility, Pageable pageable);
 
     /**
-     * [랜덤 쇼츠 조회]
-     * 1. 목적: 사용자에게 무작위 컨텐츠를 제공하여 탐색 경험 증대.
-     * 2. 로직: rand() 함수를 활용하여 발행된 숏츠 중 무작위로 페이징 조회합니다. (DB 방언에 따라 자동 번역)
+     * [랜덤 샘플링 풀 적재]
+     * 발행 + 공개 숏츠의 ID만 조회합니다. ShortsRandomSampler가 메모리 풀로 보관해 ORDER BY rand() 없이 샘플링합니다.
      */
-    @Query("SELECT s FROM Shorts s WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC' ORDER BY rand()")
-    Page<Shorts> findRandomPublishedShorts(Pageable pageable);
+    @Query("SELECT s.id FROM Shorts s WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'")
+    List<Long> findPublicPublishedIds();
+
+    /**
+     * [랜덤 샘플링 풀 단건 반영]
+     * 변경된 숏츠 하나가 풀에 들어가야 하는지(발행 + 공개) PK로만 확인합니다.
+     */
+    boolean existsByIdAndStatusAndVisibility(Long id, ShortsStatus status, ShortsVisibility visibility);
+
+    /**
+     * [샘플링 결과 조회]
+     * 샘플러의 풀이 잠시 오래될 수 있으므로 상태/공개 여부를 다시 조건으로 겁니다.
+     */
+    @EntityGraph(attributePaths = {"user", "category"})
+    List<Shorts> findByIdInAndStatusAndVisibility(Collection<Long> ids, ShortsStatus status, ShortsVisibility visibility);
 
     @EntityGraph(attributePaths = {"user", "category"})
     Page<Shorts> findByUserId(Long userId, Pageable pageable);
@@ -196,42 +453,11 @@ public interface ShortsRepository extends JpaRepository<Shorts, Long> {
             "WHERE s.status = 'PUBLISHED' " +
             "AND s.visibility = 'PUBLIC' " +
             "AND s.createdAt >= :since " +
-            "ORDER BY s.likeCount DESC, s.createdAt DESC")
+            "ORDER BY s.trendingScore DESC, s.id DESC")
     @EntityGraph(attributePaths = {"user", "category"})
     Page<Shorts> findPopularShorts(@Param("since") LocalDateTime since, Pageable pageable);
 
-    @Query("SELECT s FROM Shorts s " +
-            "LEFT JOIN ShortsLike l ON l.shorts = s " +
-            "WHERE s.status = 'PUBLISHED' " +
-            "AND s.visibility = 'PUBLIC' " +
-            "AND s.createdAt >= :since " +
-            "GROUP BY s.id " +
-            "ORDER BY COUNT(l.id) DESC, s.createdAt DESC")
-    @EntityGraph(attributePaths = {"user", "category"})
-    Page<Shorts> findPopularShortsByLikes(@Param("since") LocalDateTime since, Pageable pageable);
-
     List<Shorts> findByIdNot(Long shortsId);
 
-    /**
-     * [전체 랜덤 조회]
-     */
-    @Query("SELECT s FROM Shorts s ORDER BY rand()")
-    Page<Shorts> findAllRandom(Pageable pageable);
-
-    /**
-     * [추천 후보 숏츠 조회]
-     * 1. 목적: 추천 알고리즘을 수행할 대상 후보군을 추출합니다.
-     * 2. 로직: 현재 보고 있는 영상을 제외하고 발행된 영상들을 무작위로 가져옵니다. (DB 독립적인 rand() 함수 사용)
-     * 3. 제한: 대량 조회를 방지하기 위해 Pageable을 통해 후보군 크기를 제한합니다.
-     */
-    @Query("SELECT s FROM Shorts s " +
-            "WHERE s.id != :shortsId " +
-            "AND s.status = :status " +
-            "AND s.visibility = 'PUBLIC' " +
-            "ORDER BY rand()")
-    List<Shorts> findRecommendationCandidates(
-            @Param("shortsId") Long shortsId,
-            @Param("status") ShortsStatus status,
-            Pageable pageable);
 }
 
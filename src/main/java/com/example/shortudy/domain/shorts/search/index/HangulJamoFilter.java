@@ -0,0 +1,31 @@
+package com.example.shortudy.domain.shorts.search.index;
+
+import com.example.shortudy.domain.keyword.util.HangulJamo;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+import java.io.IOException;
+
+/**
+ * 토큰을 자모 분해 표기로 바꾸는 필터 (제목 접두사 검색용)
+ * - "자바" / "자ㅂ" / "잡"이 같은 자모 접두사(ㅈㅏㅂ)를 갖게 된다.
+ */
+final class HangulJamoFilter extends TokenFilter {
+
+    private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+
+    HangulJamoFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+        if (!input.incrementToken()) {
+            return false;
+        }
+        String jamo = HangulJamo.toJamo(termAttribute.toString());
+        termAttribute.setEmpty().append(jamo);
+        return true;
+    }
+}
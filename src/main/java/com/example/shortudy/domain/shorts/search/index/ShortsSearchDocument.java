@@ -0,0 +1,35 @@
+package com.example.shortudy.domain.shorts.search.index;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import com.example.shortudy.domain.shorts.trending.support.TrendingScoreCalculator;
+
+import java.util.List;
+
+/**
+ * 검색 색인 문서 (숏츠 1건)
+ */
+public record ShortsSearchDocument(
+        Long shortsId,
+        String title,
+        String description,
+        List<String> keywords,
+        Long categoryId,
+        ShortsStatus status,
+        ShortsVisibility visibility,
+        long viewCount,
+        long likeCount,
+        long commentCount
+) {
+
+    /**
+     * 인기도 (트렌딩 점수와 같은 참여도 가중치, 시간 감쇠 없음)
+     * - BM25 점수에 포화 함수로 더해지므로 양수여야 한다.
+     */
+    public float popularity() {
+        long engagement = viewCount * TrendingScoreCalculator.VIEW_WEIGHT
+                + likeCount * TrendingScoreCalculator.LIKE_WEIGHT
+                + commentCount * TrendingScoreCalculator.COMMENT_WEIGHT;
+        return 1f + Math.max(engagement, 0L);
+    }
+}
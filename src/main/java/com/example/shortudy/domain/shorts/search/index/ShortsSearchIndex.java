@@ -0,0 +1,317 @@
+package com.example.shortudy.domain.shorts.search.index;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 숏츠 검색 역색인 (임베디드 Lucene)
+ * [색인 필드]
+ * - title / description / keywords: CJK 바이그램 분석 (한글 형태소 분석기 없이 부분 일치)
+ * - title_prefix: 제목 토큰을 자모로 분해한 뒤 edge n-gram으로 색인 → 입력 중인 검색어도 접두사로 일치
+ * - category / status / visibility: 필터 전용 (점수에 영향 없음)
+ * - features.popularity: 참여도 기반 인기도 (FeatureField)
+ * [점수]
+ * - BM25(title^3, keywords^2, title_prefix^1.5, description^1) + 인기도 포화 함수(popularity-weight)
+ * [저장소]
+ * - shorts.search.index-dir가 있으면 로컬 디스크(FSDirectory), 없으면 메모리에 색인한다.
+ * - 쓰기 후에는 SearcherManager로 NRT 갱신하고, 디스크 반영(commit)은 주기 작업에서 한다.
+ * [조회 한도]
+ * - offset 방식은 offset + limit 개를 모두 모아야 하므로 앞에서부터 MAX_RESULT_WINDOW개까지만 조회한다.
+ */
+@Component
+public class ShortsSearchIndex implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String ID_POINT = "id_point";
+    private static final String TITLE = "title";
+    private static final String TITLE_PREFIX = "title_prefix";
+    private static final String DESCRIPTION = "description";
+    private static final String KEYWORDS = "keywords";
+    private static final String CATEGORY = "category";
+    private static final String STATUS = "status";
+    private static final String VISIBILITY = "visibility";
+    private static final String FEATURES = "features";
+    private static final String POPULARITY = "popularity";
+
+    // offset + limit 상한 (깊은 페이지 요청이 수집 비용을 키우거나 int 범위를 넘지 않도록)
+    public static final int MAX_RESULT_WINDOW = 1_000;
+
+    // 자모 기준 최대 접두사 길이 (한글 약 10글자)
+    private static final int MAX_PREFIX_LENGTH = 30;
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            TITLE, 3f,
+            KEYWORDS, 2f,
+            TITLE_PREFIX, 1.5f,
+            DESCRIPTION, 1f
+    );
+
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final QueryBuilder queryBuilder;
+    private final float popularityWeight;
+
+    public ShortsSearchIndex(@Value("${shorts.search.index-dir:}") String indexDir,
+                             @Value("${shorts.search.popularity-weight:2.0}") float popularityWeight) {
+        this.popularityWeight = popularityWeight;
+        try {
+            this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+            IndexWriterConfig config = new IndexWriterConfig(analyzer(true))
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(directory, config);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("숏츠 검색 색인을 열 수 없습니다: " + indexDir, e);
+        }
+        this.queryBuilder = new QueryBuilder(analyzer(false));
+    }
+
+    /**
+     * 검색어로 숏츠 ID를 점수 순으로 조회합니다. (공개 숏츠만)
+     *
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param status     상태 필터 (null이면 전체)
+     * @param offset     건너뛸 결과 수
+     * @param limit      최대 결과 수 (offset + limit이 MAX_RESULT_WINDOW를 넘으면 그 안까지만 반환)
+     */
+    public List<Long> search(String text, Long categoryId, ShortsStatus status, long offset, int limit) {
+        Query textQuery = textQuery(text);
+        if (textQuery == null || limit <= 0 || offset < 0 || offset >= MAX_RESULT_WINDOW) {
+            return List.of();
+        }
+        int end = (int) Math.min(offset + limit, MAX_RESULT_WINDOW);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, Occur.MUST)
+                .add(new BoostQuery(FeatureField.newSaturationQuery(FEATURES, POPULARITY), popularityWeight), Occur.SHOULD)
+                .add(new TermQuery(new Term(VISIBILITY, ShortsVisibility.PUBLIC.name())), Occur.FILTER);
+        if (categoryId != null) {
+            query.add(new TermQuery(new Term(CATEGORY, String.valueOf(categoryId))), Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), end);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(end - (int) offset);
+                for (int i = (int) offset; i < top.scoreDocs.length; i++) {
+                    ids.add(Long.parseLong(storedFields.document(top.scoreDocs[i].doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 문서를 추가하거나 같은 ID의 기존 문서를 교체합니다.
+     */
+    public void upsert(Collection<ShortsSearchDocument> documents) {
+        try {
+            for (ShortsSearchDocument document : documents) {
+                writer.updateDocument(idTerm(document.shortsId()), toDocument(document));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long shortsId) {
+        try {
+            writer.deleteDocuments(idTerm(shortsId));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * ID 구간 (afterId, lastId]을 주어진 문서로 맞춥니다. (전체 재색인 청크 단위)
+     * - 구간 안에서 DB에 더 이상 없는 문서는 지우고, 나머지는 교체합니다.
+     */
+    public void replaceRange(long afterId, long lastId, List<ShortsSearchDocument> documents) {
+        try {
+            BooleanQuery.Builder removed = new BooleanQuery.Builder()
+                    .add(LongPoint.newRangeQuery(ID_POINT, afterId + 1, lastId), Occur.FILTER);
+            if (!documents.isEmpty()) {
+                long[] ids = documents.stream().mapToLong(ShortsSearchDocument::shortsId).toArray();
+                removed.add(LongPoint.newSetQuery(ID_POINT, ids), Occur.MUST_NOT);
+            }
+            writer.deleteDocuments(removed.build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        upsert(documents);
+    }
+
+    /**
+     * afterId보다 큰 ID의 문서를 모두 지웁니다. (전체 재색인 마지막 단계)
+     */
+    public void deleteAfter(long afterId) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(ID_POINT, afterId + 1, Long.MAX_VALUE));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 쌓인 변경을 디스크에 반영합니다.
+     */
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        try {
+            searcherManager.close();
+            writer.close();
+        } finally {
+            directory.close();
+        }
+        log.debug("숏츠 검색 색인 종료");
+    }
+
+    private Query textQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(field.getKey(), text, Occur.SHOULD);
+            if (fieldQuery != null) {
+                query.add(new BoostQuery(fieldQuery, field.getValue()), Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        return hasClause ? query.build() : null;
+    }
+
+    private static Term idTerm(Long shortsId) {
+        return new Term(ID, String.valueOf(shortsId));
+    }
+
+    private static Document toDocument(ShortsSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(source.shortsId()), Field.Store.YES));
+        document.add(new LongPoint(ID_POINT, source.shortsId()));
+        if (source.title() != null) {
+            document.add(new TextField(TITLE, source.title(), Field.Store.NO));
+            document.add(new TextField(TITLE_PREFIX, source.title(), Field.Store.NO));
+        }
+        if (source.description() != null) {
+            document.add(new TextField(DESCRIPTION, source.description(), Field.Store.NO));
+        }
+        for (String keyword : source.keywords()) {
+            document.add(new TextField(KEYWORDS, keyword, Field.Store.NO));
+        }
+        if (source.categoryId() != null) {
+            document.add(new StringField(CATEGORY, String.valueOf(source.categoryId()), Field.Store.NO));
+        }
+        if (source.status() != null) {
+            document.add(new StringField(STATUS, source.status().name(), Field.Store.NO));
+        }
+        if (source.visibility() != null) {
+            document.add(new StringField(VISIBILITY, source.visibility().name(), Field.Store.NO));
+        }
+        document.add(new FeatureField(FEATURES, POPULARITY, source.popularity()));
+        return document;
+    }
+
+    /**
+     * 필드별 분석기
+     * - 기본: CJK 바이그램
+     * - title_prefix: 소문자 → 자모 분해 (+ 색인 시에만 edge n-gram)
+     */
+    private static Analyzer analyzer(boolean indexing) {
+        Analyzer prefix = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new StandardTokenizer();
+                TokenStream stream = new HangulJamoFilter(new LowerCaseFilter(tokenizer));
+                if (indexing) {
+                    stream = new EdgeNGramTokenFilter(stream, 1, MAX_PREFIX_LENGTH, true);
+                }
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+        return new PerFieldAnalyzerWrapper(new CJKAnalyzer(), Map.of(TITLE_PREFIX, prefix));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.shortudy.domain.shorts.search.scheduler;
+
+import com.example.shortudy.domain.shorts.search.service.ShortsSearchIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ShortsSearchIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsSearchIndexScheduler.class);
+
+    private final ShortsSearchIndexService shortsSearchIndexService;
+
+    @Value("${shorts.search.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    public ShortsSearchIndexScheduler(ShortsSearchIndexService shortsSearchIndexService) {
+        this.shortsSearchIndexService = shortsSearchIndexService;
+    }
+
+    // 기동 직후 1회 + 주기적으로 전체 재색인 (빈 색인 적재 / 인기도 갱신 / 누락 보정, 기본 1시간)
+    @Scheduled(initialDelayString = "${shorts.search.reindex.initial-delay-ms:10000}",
+            fixedDelayString = "${shorts.search.reindex.interval-ms:3600000}")
+    public void reindexAll() {
+        long afterId = 0L;
+        int indexedCount = 0;
+
+        List<Long> ids;
+        while (!(ids = shortsSearchIndexService.findIdChunk(afterId, chunkSize)).isEmpty()) {
+            shortsSearchIndexService.reindexChunk(afterId, ids);
+            afterId = ids.get(ids.size() - 1);
+            indexedCount += ids.size();
+        }
+        shortsSearchIndexService.finishReindex(afterId);
+
+        log.info("숏츠 검색 전체 재색인 완료 - indexedCount={}, lastId={}", indexedCount, afterId);
+    }
+
+    // 증분 갱신분을 디스크에 반영 (기본 1분)
+    @Scheduled(fixedDelayString = "${shorts.search.commit-interval-ms:60000}")
+    public void commit() {
+        shortsSearchIndexService.commit();
+    }
+}
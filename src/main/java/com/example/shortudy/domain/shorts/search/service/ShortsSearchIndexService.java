@@ -0,0 +1,143 @@
+package com.example.shortudy.domain.shorts.search.service;
+
+import com.example.shortudy.domain.keyword.query.KeywordDictionary;
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.example.shortudy.domain.shorts.event.ShortsDraftSavedEvent;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository.ShortsKeywordIdProjection;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository.ShortsSearchSourceProjection;
+import com.example.shortudy.domain.shorts.search.index.ShortsSearchDocument;
+import com.example.shortudy.domain.shorts.search.index.ShortsSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 숏츠 검색 색인 갱신 서비스
+ * [증분 갱신]
+ * - ShortsService의 수정/게시/삭제(ShortsChangedEvent)와 업로드 흐름의 초안 저장(ShortsDraftSavedEvent) 커밋 후
+ *   해당 숏츠 1건만 다시 읽어 색인에 반영한다.
+ * - 색인 반영 실패는 요청을 실패시키지 않고 로그만 남긴다. (주기 재색인에서 보정)
+ * [전체 재색인]
+ * - id 키셋 청크 단위로 (afterId, lastId] 구간을 DB와 맞춘다. → 인기도 갱신, 누락/삭제 보정
+ * [주의]
+ * - 커밋 이후 리스너를 갖고 있으므로 클래스 단위 @Transactional을 두지 않는다. (조회는 리포지토리 단위 트랜잭션)
+ */
+@Service
+public class ShortsSearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsSearchIndexService.class);
+
+    private final ShortsRepository shortsRepository;
+    private final KeywordDictionary keywordDictionary;
+    private final ShortsSearchIndex shortsSearchIndex;
+
+    public ShortsSearchIndexService(ShortsRepository shortsRepository, KeywordDictionary keywordDictionary, ShortsSearchIndex shortsSearchIndex) {
+        this.shortsRepository = shortsRepository;
+        this.keywordDictionary = keywordDictionary;
+        this.shortsSearchIndex = shortsSearchIndex;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShortsChanged(ShortsChangedEvent event) {
+        if (event.type() == ShortsChangedEvent.ChangeType.DELETED) {
+            deleteQuietly(event.shortsId());
+        } else {
+            reindexQuietly(event.shortsId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDraftSaved(ShortsDraftSavedEvent event) {
+        reindexQuietly(event.shortsId());
+    }
+
+    public List<Long> findIdChunk(long afterId, int size) {
+        return shortsRepository.findIdsAfter(afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 색인의 (afterId, 청크 마지막 id] 구간을 DB와 맞춘다.
+     */
+    public void reindexChunk(long afterId, List<Long> ids) {
+        shortsSearchIndex.replaceRange(afterId, ids.get(ids.size() - 1), loadDocuments(ids));
+    }
+
+    /**
+     * 전체 재색인을 마친 뒤, 마지막 id 이후에 남은 문서(삭제된 숏츠)를 지우고 디스크에 반영한다.
+     */
+    public void finishReindex(long lastId) {
+        shortsSearchIndex.deleteAfter(lastId);
+        shortsSearchIndex.commit();
+    }
+
+    public void commit() {
+        shortsSearchIndex.commit();
+    }
+
+    private void reindexQuietly(Long shortsId) {
+        try {
+            List<ShortsSearchDocument> documents = loadDocuments(List.of(shortsId));
+            if (documents.isEmpty()) {
+                shortsSearchIndex.delete(shortsId);
+            } else {
+                shortsSearchIndex.upsert(documents);
+            }
+        } catch (RuntimeException e) {
+            log.warn("숏츠 검색 색인 갱신 실패 - shortsId={}", shortsId, e);
+        }
+    }
+
+    private void deleteQuietly(Long shortsId) {
+        try {
+            shortsSearchIndex.delete(shortsId);
+        } catch (RuntimeException e) {
+            log.warn("숏츠 검색 색인 삭제 실패 - shortsId={}", shortsId, e);
+        }
+    }
+
+    private List<ShortsSearchDocument> loadDocuments(List<Long> ids) {
+        List<ShortsSearchSourceProjection> sources = shortsRepository.findSearchSources(ids);
+        if (sources.isEmpty()) {
+            return List.of();
+        }
+
+        List<ShortsKeywordIdProjection> pairs = shortsRepository.findKeywordIdsByShortsIds(ids);
+        Map<Long, KeywordDictionary.Entry> dictionary = keywordDictionary.findAll(
+                pairs.stream().map(ShortsKeywordIdProjection::getKeywordId).distinct().toList());
+        Map<Long, List<String>> keywordsByShorts = new HashMap<>();
+        for (ShortsKeywordIdProjection pair : pairs) {
+            KeywordDictionary.Entry entry = dictionary.get(pair.getKeywordId());
+            if (entry != null) {
+                keywordsByShorts.computeIfAbsent(pair.getShortsId(), id -> new ArrayList<>()).add(entry.displayName());
+            }
+        }
+
+        List<ShortsSearchDocument> documents = new ArrayList<>(sources.size());
+        for (ShortsSearchSourceProjection source : sources) {
+            documents.add(new ShortsSearchDocument(
+                    source.getShortsId(),
+                    source.getTitle(),
+                    source.getDescription(),
+                    keywordsByShorts.getOrDefault(source.getShortsId(), List.of()),
+                    source.getCategoryId(),
+                    source.getStatus(),
+                    source.getVisibility(),
+                    valueOf(source.getViewCount()),
+                    valueOf(source.getLikeCount()),
+                    valueOf(source.getCommentCount())));
+        }
+        return documents;
+    }
+
+    private static long valueOf(Number value) {
+        return value == null ? 0L : value.longValue();
+    }
+}
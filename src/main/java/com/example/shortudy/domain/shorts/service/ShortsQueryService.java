@@ -1,30 +1,44 @@
 package com.example.shortudy.domain.shorts.service;
 
+import com.example.shortudy.domain.shorts.cache.ShortsFeedCache;
+import com.example.shortudy.domain.shorts.cache.ShortsFeedCache.CachedShortsPage;
+import com.example.shortudy.domain.shorts.cursor.ShortsCursor;
+import com.example.shortudy.domain.shorts.cursor.ShortsCursorCodec;
+import com.example.shortudy.domain.shorts.dto.ShortsCursorPageResponse;
 import com.example.shortudy.domain.shorts.dto.ShortsResponse;
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
 import com.example.shortudy.domain.shorts.dto.ShortsStatusDescriptionResponse;
-import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.shorts.entity.ShortsInspectionResults;
 import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
 import com.example.shortudy.domain.shorts.repository.ShortsInspectionResultsRepository;
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
-import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
-import com.example.shortudy.global.config.S3Service;
+import com.example.shortudy.domain.shorts.search.index.ShortsSearchIndex;
+import com.example.shortudy.domain.shorts.trending.service.ShortsLeaderboardService;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.pagination.ApproximateCountCache;
+import com.example.shortudy.global.pagination.PageMode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
  * 숏츠 조회 전용 서비스
- * 복잡한 집계 쿼리는 Repository에서 Object[]로 조회 후 DTO로 변환하여 반환합니다.
+ * 복잡한 집계 쿼리는 Repository에서 ShortsRow 프로젝션으로 조회한 뒤, ShortsResponseAssembler로 응답을 한 번에 조립합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,166 +47,195 @@ public class ShortsQueryService {
 
     private final ShortsRepository shortsRepository;
     private final ShortsInspectionResultsRepository shortsInspectionResultsRepository;
-    private final RedisShortsViewCountRepository redisShortsViewCountRepository;
-    private final S3Service s3Service;
+    private final ShortsCursorCodec shortsCursorCodec;
+    private final ShortsFeedCache shortsFeedCache;
+    private final ShortsResponseAssembler shortsResponseAssembler;
+    private final ShortsLeaderboardService shortsLeaderboardService;
+    private final ApproximateCountCache approximateCountCache;
+    private final ShortsSearchIndex shortsSearchIndex;
 
     /**
      * 상세 조회 - DB 집계 데이터와 Redis 실시간 조회수를 통합하여 반환합니다.
      */
     public ShortsResponse getShortsDetails(Long shortsId, Long userId) {
-        ShortsResponse response = shortsRepository.findResponseById(shortsId, userId)
+        ShortsRow row = shortsRepository.findResponseById(shortsId, userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.SHORTS_NOT_FOUND));
-        
-        // Keywords는 별도로 채워주거나, 엔티티 조회가 필요할 시 별도 로직 수행
-        return enrich(fillKeywords(response, shortsId));
+
+        List<ShortsRow> rows = List.of(row);
+        return shortsResponseAssembler.assemble(rows, shortsResponseAssembler.findKeywords(rows), userId).get(0);
     }
 
     /**
      * 목록 조회 - 발행된 숏츠 목록을 집계 데이터와 함께 조회합니다.
+     * 사용자 무관 결과(행 + 키워드)는 피드 캐시에서 공유하고, 실시간 조회수와 좋아요 여부는 조립 단계에서 채웁니다.
+     * 목록은 Slice(size + 1)로만 조회하며, page 모드의 전체 개수는 근사값 캐시에서 가져옵니다. (요청 경로에서 COUNT 없음)
      */
-    public Page<ShortsResponse> getShortsList(Pageable pageable, Long userId) {
-        Page<ShortsResponse> responses = shortsRepository.findResponsesByStatus(ShortsStatus.PUBLISHED, userId, pageable);
-        Page<ShortsResponse> enriched = enrichAll(responses);
-        return fillKeywords(enriched);
+    public Slice<ShortsResponse> getShortsList(Pageable pageable, Long userId, PageMode mode) {
+        CachedShortsPage page = shortsFeedCache.getPage(ShortsFeedCache.key("list", null, pageable),
+                () -> toCachedPage(shortsRepository.findResponsesByStatus(ShortsStatus.PUBLISHED, pageable)));
+        return toResponsePage(page, pageable, userId, mode, "shorts:list",
+                () -> shortsRepository.countByStatusAndVisibility(ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC));
     }
 
     /**
      * 카테고리별 조회 - 특정 카테고리의 숏츠 목록을 집계 데이터와 함께 조회합니다.
      */
-    public Page<ShortsResponse> getShortsByCategory(Long categoryId, Pageable pageable, Long userId) {
-        Page<ShortsResponse> responses = shortsRepository.findResponsesByCategoryIdAndStatus(categoryId, ShortsStatus.PUBLISHED, userId, pageable);
-        Page<ShortsResponse> enriched = enrichAll(responses);
-        return fillKeywords(enriched);
+    public Slice<ShortsResponse> getShortsByCategory(Long categoryId, Pageable pageable, Long userId, PageMode mode) {
+        CachedShortsPage page = shortsFeedCache.getPage(ShortsFeedCache.key("category", categoryId, pageable),
+                () -> toCachedPage(shortsRepository.findResponsesByCategoryIdAndStatus(categoryId, ShortsStatus.PUBLISHED, pageable)));
+        return toResponsePage(page, pageable, userId, mode, "shorts:category:" + categoryId,
+                () -> shortsRepository.countByCategoryIdAndStatusAndVisibility(categoryId, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC));
+    }
+
+    /**
+     * 인기 숏츠 조회 - 전체 또는 카테고리 리더보드(Redis ZSET) 순위로 조회합니다.
+     * - 리더보드가 요청 구간을 채우지 못하거나 Redis 장애 시 트렌딩 점수 순으로 DB에서 조회합니다.
+     * - 두 점수 모두 시간 감쇠가 들어가 있어 기간(N일) 조건은 두지 않습니다. (두 경로가 같은 대상을 보도록)
+     * - 정렬은 순위/점수로 고정하므로 요청의 sort는 무시합니다.
+     */
+    public Slice<ShortsResponse> getPopularShorts(Long categoryId, Pageable pageable, Long userId, PageMode mode) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        String filter = categoryId == null ? "all" : categoryId.toString();
+        CachedShortsPage page = shortsFeedCache.getPage(ShortsFeedCache.key("popular", filter, unsorted),
+                () -> toCachedPage(findPopularRows(categoryId, unsorted)));
+        return toResponsePage(page, unsorted, userId, mode, "shorts:popular:" + filter,
+                () -> (categoryId == null)
+                        ? shortsRepository.countByStatusAndVisibility(ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC)
+                        : shortsRepository.countByCategoryIdAndStatusAndVisibility(categoryId, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC));
+    }
+
+    /**
+     * 최신 피드 조회 (커서 기반)
+     * [동작 방식]
+     * 1. 커서 토큰을 검증/복원한다. (없으면 첫 페이지)
+     * 2. (createdAt, id) 키셋 조건으로 size + 1개를 조회해 다음 페이지 존재 여부를 판단한다.
+     * 3. COUNT 쿼리 없이 마지막 행으로 다음 커서를 만든다.
+     */
+    public ShortsCursorPageResponse getShortsFeed(Long categoryId, String cursorToken, int size, Long userId) {
+        String scope = (categoryId == null) ? "latest" : "category:" + categoryId;
+        ShortsCursor cursor = shortsCursorCodec.decode(scope, cursorToken);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ShortsRow> rows = (categoryId == null)
+                ? shortsRepository.findFeedResponses(cursor.createdAt(), cursor.id(), limit)
+                : shortsRepository.findFeedResponsesByCategoryId(categoryId, cursor.createdAt(), cursor.id(), limit);
+
+        return toCursorPage(rows, size, scope, userId, last -> ShortsCursor.ofCreatedAt(last.createdAt(), last.shortsId()));
     }
 
     /**
-     * 인기 숏츠 조회 - 최근 N일간의 인기 숏츠를 집계 데이터와 함께 조회합니다.
+     * 인기 피드 조회 (커서 기반) - (trendingScore, id) 순으로 조회합니다.
+     * - 기간 조건은 두지 않는다. 트렌딩 점수가 이미 시간 감쇠를 반영하고, 요청 시각 기준 기간을 두면
+     *   페이지마다 기준이 달라져 커서 사이에서 행이 빠지거나 끼어든다. (인기 목록 /popular와 같은 기준)
      */
-    public Page<ShortsResponse> getPopularShorts(Integer days, Pageable pageable, Long userId) {
-        if (days == null || days <= 0) days = 30;
-        LocalDateTime since = LocalDateTime.now().minusDays(days);
-        Page<ShortsResponse> responses = shortsRepository.findPopularResponses(since, userId, pageable);
-        Page<ShortsResponse> enriched = enrichAll(responses);
-        return fillKeywords(enriched);
+    public ShortsCursorPageResponse getPopularShortsFeed(String cursorToken, int size, Long userId) {
+        // 기간 조건을 없애면서 scope를 바꿔 이전(trending:{days}) 커서는 거부한다.
+        String scope = "trending";
+        ShortsCursor cursor = shortsCursorCodec.decode(scope, cursorToken);
+
+        List<ShortsRow> rows = shortsRepository.findPopularFeedResponses(
+                cursor.score(), cursor.id(), PageRequest.of(0, size + 1));
+
+        return toCursorPage(rows, size, scope, userId, last -> new ShortsCursor(last.trendingScore(), last.shortsId()));
     }
 
     /**
      * 내 쇼츠 조회 - 내가 작성한 숏츠 목록을 집계 데이터와 함께 조회합니다.
      */
-    public Page<ShortsStatusDescriptionResponse> getMyShorts(Long userId, Pageable pageable) {
-        Page<ShortsResponse> responses = shortsRepository.findMyResponses(userId, pageable);
-        Page<ShortsResponse> enriched = enrichAll(responses);
-        Page<ShortsResponse> withKeywords = fillKeywords(enriched);
+    public Slice<ShortsStatusDescriptionResponse> getMyShorts(Long userId, Pageable pageable, PageMode mode) {
+        Slice<ShortsRow> rows = shortsRepository.findMyResponses(userId, pageable);
 
         // 1) 이번 페이지의 shortsId만 뽑아서
-        List<Long> shortsIds = withKeywords.getContent().stream()
-            .map(ShortsResponse::shortsId)
+        List<Long> shortsIds = rows.getContent().stream()
+            .map(ShortsRow::shortsId)
             .toList();
 
         // 2) 한방 조회 후 Map으로 변환 (shortsId -> reason)
-        Map<Long, String> reasonMap = shortsInspectionResultsRepository.findByShortsIdIn(shortsIds).stream()
+        Map<Long, String> reasonMap = shortsIds.isEmpty() ? Map.of() : shortsInspectionResultsRepository.findByShortsIdIn(shortsIds).stream()
             .collect(Collectors.toMap(
                 r -> r.getShorts().getId(),   // 혹은 r.getShortsId() 형태면 그걸로
                 ShortsInspectionResults::getReason,
                 (a, b) -> a // 중복 시 첫 값 사용(보통은 중복 없어야 정상)
             ));
 
-        // 3) 응답 매핑
-        return withKeywords.map(shorts -> {
-            String desc = reasonMap.get(shorts.shortsId()); // 없으면 null
-            return ShortsStatusDescriptionResponse.of(shorts, desc);
-        });
+        // 3) 응답 매핑 (행마다 한 번만 생성)
+        List<ShortsStatusDescriptionResponse> content = shortsResponseAssembler.assemble(
+                rows.getContent(),
+                shortsResponseAssembler.findKeywords(rows.getContent()),
+                userId,
+                (row, keywords, viewCount, profileUrl, isLiked) -> ShortsStatusDescriptionResponse.of(
+                        row, reasonMap.get(row.shortsId()), keywords, viewCount, profileUrl, isLiked)); // 없으면 null
+        return approximateCountCache.apply(mode, new SliceImpl<>(content, pageable, rows.hasNext()),
+                "shorts:my:" + userId, () -> shortsRepository.countByUserId(userId));
     }
 
     /**
-     * DTO의 키워드 목록을 채워줍니다. (Batch Fetch 활용을 위해 엔티티에서 추출)
+     * 숏츠 검색 - 검색 색인(BM25 + 인기도)에서 이번 페이지의 ID만 순위대로 받은 뒤, ID IN 조회로 응답을 채웁니다.
+     * - 공개 + 게시(PUBLISHED) 숏츠만 대상으로 하며, size + 1개로 다음 페이지 존재 여부를 판단합니다.
+     * - 색인이 잠시 오래될 수 있으므로 DB에서 상태/공개 여부가 맞지 않는 ID는 건너뜁니다.
+     * - 앞에서부터 ShortsSearchIndex.MAX_RESULT_WINDOW개까지만 조회할 수 있고, 그보다 깊은 페이지는 400으로 거절합니다.
      */
-    private ShortsResponse fillKeywords(ShortsResponse original, Long shortsId) {
-        return shortsRepository.findWithDetailsAndKeywordsById(shortsId)
-                .map(shorts -> new ShortsResponse(
-                        original.shortsId(), original.title(), original.description(),
-                        original.videoUrl(), original.thumbnailUrl(), original.durationSec(),
-                        original.status(), original.visibility(), original.userId(), original.userNickname(),
-                        original.userProfileUrl(), original.categoryId(), original.categoryName(),
-                        shorts.getKeywords().stream().map(k -> k.getDisplayName()).toList(),
-                        original.viewCount(), original.likeCount(), original.commentCount(),
-                        original.createdAt(), original.updatedAt(), original.isLiked()
-                )).orElse(original);
-    }
+    public Slice<ShortsResponse> searchShorts(String query, Long categoryId, Pageable pageable, Long userId) {
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (unsorted.getOffset() + unsorted.getPageSize() > ShortsSearchIndex.MAX_RESULT_WINDOW) {
+            throw new BaseException(ErrorCode.INVALID_INPUT,
+                    "page: 검색 결과는 앞에서부터 " + ShortsSearchIndex.MAX_RESULT_WINDOW + "개까지만 조회할 수 있습니다.");
+        }
+        List<Long> ids = shortsSearchIndex.search(query, categoryId, ShortsStatus.PUBLISHED,
+                unsorted.getOffset(), unsorted.getPageSize() + 1);
 
-    /**
-     * 목록 응답의 키워드를 배치 조회로 채워 N+1을 방지한다.
-     */
-    private Page<ShortsResponse> fillKeywords(Page<ShortsResponse> responses) {
-        if (responses.isEmpty()) {
-            return responses;
+        boolean hasNext = ids.size() > unsorted.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, unsorted.getPageSize()) : ids;
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), unsorted, false);
         }
 
-        List<Long> ids = responses.stream().map(ShortsResponse::shortsId).toList();
-        Map<Long, List<String>> keywordsByShortsId = shortsRepository.findWithDetailsAndKeywordsByIdIn(ids).stream()
-                .collect(Collectors.toMap(
-                        Shorts::getId,
-                        shorts -> shorts.getKeywords().stream().map(k -> k.getDisplayName()).toList()
-                ));
-
-        return responses.map(original -> new ShortsResponse(
-                original.shortsId(),
-                original.title(),
-                original.description(),
-                original.videoUrl(),
-                original.thumbnailUrl(),
-                original.durationSec(),
-                original.status(),
-                original.visibility(),
-                original.userId(),
-                original.userNickname(),
-                original.userProfileUrl(),
-                original.categoryId(),
-                original.categoryName(),
-                keywordsByShortsId.getOrDefault(original.shortsId(), List.of()),
-                original.viewCount(),
-                original.likeCount(),
-                original.commentCount(),
-                original.createdAt(),
-                original.updatedAt(),
-                original.isLiked()
-        ));
+        Map<Long, ShortsRow> rowsById = shortsRepository.findResponsesByIds(pageIds).stream()
+                .collect(Collectors.toMap(ShortsRow::shortsId, Function.identity()));
+        List<ShortsRow> rows = pageIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        List<ShortsResponse> content = shortsResponseAssembler.assemble(rows, shortsResponseAssembler.findKeywords(rows), userId);
+        return new SliceImpl<>(content, unsorted, hasNext);
     }
 
-    /**
-     * 페이지 단위로 실시간 정보(조회수, 프로필 URL 등)를 통합합니다.
-     */
-    private Page<ShortsResponse> enrichAll(Page<ShortsResponse> responses) {
-        Map<Long, Long> pendingCounts = redisShortsViewCountRepository.findPendingViewCounts();
-        return responses.map(resp -> {
-            Long pending = pendingCounts.getOrDefault(resp.shortsId(), 0L);
-            return enrich(resp, resp.viewCount() + pending);
-        });
+    private Slice<ShortsRow> findPopularRows(Long categoryId, Pageable pageable) {
+        return shortsLeaderboardService.findRankedRows(categoryId, pageable).orElseGet(() -> (categoryId == null)
+                ? shortsRepository.findPopularResponses(pageable)
+                : shortsRepository.findPopularResponsesByCategoryId(categoryId, pageable));
     }
 
-    /**
-     * 단건에 대해 실시간 정보(조회수, 프로필 URL 등)를 통합합니다.
-     */
-    private ShortsResponse enrich(ShortsResponse response) {
-        Map<Long, Long> pendingCounts = redisShortsViewCountRepository.findPendingViewCounts();
-        Long pending = pendingCounts.getOrDefault(response.shortsId(), 0L);
-        return enrich(response, response.viewCount() + pending);
+    private CachedShortsPage toCachedPage(Slice<ShortsRow> rows) {
+        Long totalElements = (rows instanceof Page<ShortsRow> page) ? page.getTotalElements() : null;
+        return new CachedShortsPage(rows.getContent(), shortsResponseAssembler.findKeywords(rows.getContent()), rows.hasNext(), totalElements);
+    }
+
+    private Slice<ShortsResponse> toResponsePage(CachedShortsPage page, Pageable pageable, Long userId,
+                                                 PageMode mode, String countKey, LongSupplier counter) {
+        List<ShortsResponse> content = shortsResponseAssembler.assemble(page.rows(), page.keywords(), userId);
+        if (page.totalElements() != null && mode == PageMode.PAGE) {
+            return new PageImpl<>(content, pageable, page.totalElements());
+        }
+        return approximateCountCache.apply(mode, new SliceImpl<>(content, pageable, page.hasNext()), countKey, counter);
     }
 
     /**
-     * 실시간 데이터가 반영된 새로운 DTO를 생성합니다.
+     * size + 1개로 조회한 결과를 커서 페이지로 변환합니다.
+     * - 초과 1건은 다음 페이지 존재 여부 판단에만 쓰고 응답에서는 제외합니다.
      */
-    private ShortsResponse enrich(ShortsResponse original, long realTimeViewCount) {
-        String fullProfileUrl = s3Service.getFileUrl(original.userProfileUrl());
-        
-        return new ShortsResponse(
-                original.shortsId(), original.title(), original.description(),
-                original.videoUrl(), original.thumbnailUrl(), original.durationSec(),
-                original.status(), original.visibility(), original.userId(), original.userNickname(),
-                fullProfileUrl, original.categoryId(), original.categoryName(),
-                original.keywords(), realTimeViewCount, original.likeCount(),
-                original.commentCount(), original.createdAt(), original.updatedAt(),
-                original.isLiked()
-        );
+    private ShortsCursorPageResponse toCursorPage(List<ShortsRow> rows, int size, String scope, Long userId,
+                                                  Function<ShortsRow, ShortsCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<ShortsRow> page = hasNext ? rows.subList(0, size) : rows;
+        List<ShortsResponse> shorts = shortsResponseAssembler.assemble(page, shortsResponseAssembler.findKeywords(page), userId);
+
+        if (!hasNext) {
+            return ShortsCursorPageResponse.last(shorts);
+        }
+
+        ShortsCursor next = cursorOf.apply(page.get(page.size() - 1));
+        return ShortsCursorPageResponse.of(shorts, true, next.id(), next.score(), shortsCursorCodec.encode(scope, next));
     }
 }
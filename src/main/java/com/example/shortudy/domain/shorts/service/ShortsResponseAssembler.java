@@ -0,0 +1,156 @@
+package com.example.shortudy.domain.shorts.service;
+
+import com.example.shortudy.domain.keyword.query.KeywordDictionary;
+import com.example.shortudy.domain.like.query.ShortsLikedStateProvider;
+import com.example.shortudy.domain.shorts.dto.ShortsResponse;
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
+import com.example.shortudy.global.config.S3Service;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 숏츠 응답 조립기
+ * [배경]
+ * - 기존에는 JPQL로 응답 DTO를 만든 뒤 조회수/프로필 URL, 키워드, 좋아요 여부를 채울 때마다 20개 필드 레코드를 다시 복사했다.
+ * [동작 방식]
+ * 1. 키워드: 사용자 무관 데이터이므로 따로 조회해 피드 캐시에 함께 저장할 수 있게 한다. (findKeywords)
+ *    - (숏츠 ID, 키워드 ID)만 조회하고 키워드명은 KeywordDictionary에서 채운다.
+ * 2. 페이지 단위 부가 정보(실시간 조회수, 좋아요 ID, 작성자 프로필 URL)를 한 번에 모은다. (collect)
+ * 3. 모든 정보가 준비된 뒤 행마다 응답 객체를 정확히 한 번 생성한다. (build)
+ */
+@Component
+public class ShortsResponseAssembler {
+
+    private final ShortsRepository shortsRepository;
+    private final RedisShortsViewCountRepository redisShortsViewCountRepository;
+    private final ShortsLikedStateProvider shortsLikedStateProvider;
+    private final S3Service s3Service;
+    private final KeywordDictionary keywordDictionary;
+
+    public ShortsResponseAssembler(ShortsRepository shortsRepository,
+                                   RedisShortsViewCountRepository redisShortsViewCountRepository,
+                                   ShortsLikedStateProvider shortsLikedStateProvider,
+                                   S3Service s3Service,
+                                   KeywordDictionary keywordDictionary) {
+        this.shortsRepository = shortsRepository;
+        this.keywordDictionary = keywordDictionary;
+        this.redisShortsViewCountRepository = redisShortsViewCountRepository;
+        this.shortsLikedStateProvider = shortsLikedStateProvider;
+        this.s3Service = s3Service;
+    }
+
+    /**
+     * 행 목록의 키워드명을 조회합니다. (shortsId → 키워드명 목록)
+     * - shorts_keyword에서 ID 쌍만 1회 조회하고, 이름은 키워드 사전에서 채웁니다.
+     */
+    public Map<Long, List<String>> findKeywords(List<ShortsRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ShortsRepository.ShortsKeywordIdProjection> pairs = shortsRepository.findKeywordIdsByShortsIds(ids(rows));
+        if (pairs.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> keywordIds = new HashSet<>();
+        for (ShortsRepository.ShortsKeywordIdProjection p : pairs) {
+            keywordIds.add(p.getKeywordId());
+        }
+        Map<Long, KeywordDictionary.Entry> dictionary = keywordDictionary.findAll(keywordIds);
+
+        Map<Long, List<String>> keywords = new HashMap<>();
+        for (ShortsRepository.ShortsKeywordIdProjection p : pairs) {
+            KeywordDictionary.Entry entry = dictionary.get(p.getKeywordId());
+            if (entry != null) {
+                keywords.computeIfAbsent(p.getShortsId(), id -> new ArrayList<>()).add(entry.displayName());
+            }
+        }
+        return keywords;
+    }
+
+    public List<ShortsResponse> assemble(List<ShortsRow> rows, Map<Long, List<String>> keywords, Long userId) {
+        return assemble(rows, keywords, userId, ShortsResponse::of);
+    }
+
+    /**
+     * 부가 정보를 모은 뒤 factory로 행마다 응답을 한 번씩 생성합니다.
+     */
+    public <T> List<T> assemble(List<ShortsRow> rows, Map<Long, List<String>> keywords, Long userId,
+                                ResponseFactory<T> factory) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return build(rows, collect(rows, keywords, userId), factory);
+    }
+
+    /**
+     * 페이지 단위 부가 정보 수집 - Redis HMGET 1회, 좋아요 조회 1회, 작성자별 URL 변환 1회
+     */
+    public PageContext collect(List<ShortsRow> rows, Map<Long, List<String>> keywords, Long userId) {
+        List<Long> ids = ids(rows);
+        Map<Long, Long> pendingViews = redisShortsViewCountRepository.findPendingViewCounts(ids);
+        Set<Long> likedIds = shortsLikedStateProvider.likedShortsIds(userId, ids);
+
+        Map<String, String> profileUrls = new HashMap<>();
+        for (ShortsRow row : rows) {
+            String key = row.userProfileKey();
+            if (key != null && !profileUrls.containsKey(key)) {
+                profileUrls.put(key, s3Service.getFileUrl(key));
+            }
+        }
+        return new PageContext(keywords, pendingViews, likedIds, profileUrls);
+    }
+
+    /**
+     * 수집된 부가 정보로 응답을 생성합니다. 외부 I/O가 없는 순수 변환 단계입니다.
+     */
+    public static <T> List<T> build(List<ShortsRow> rows, PageContext context, ResponseFactory<T> factory) {
+        List<T> responses = new ArrayList<>(rows.size());
+        for (ShortsRow row : rows) {
+            Long id = row.shortsId();
+            long viewCount = (row.viewCount() == null ? 0L : row.viewCount())
+                    + context.pendingViews().getOrDefault(id, 0L);
+            responses.add(factory.create(
+                    row,
+                    context.keywords().getOrDefault(id, List.of()),
+                    viewCount,
+                    row.userProfileKey() == null ? null : context.profileUrls().get(row.userProfileKey()),
+                    context.likedIds().contains(id)
+            ));
+        }
+        return responses;
+    }
+
+    private static List<Long> ids(List<ShortsRow> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (ShortsRow row : rows) {
+            ids.add(row.shortsId());
+        }
+        return ids;
+    }
+
+    /**
+     * 페이지 단위 부가 정보
+     */
+    public record PageContext(
+            Map<Long, List<String>> keywords,
+            Map<Long, Long> pendingViews,
+            Set<Long> likedIds,
+            Map<String, String> profileUrls
+    ) {
+    }
+
+    @FunctionalInterface
+    public interface ResponseFactory<T> {
+        T create(ShortsRow row, List<String> keywords, long viewCount, String fullProfileUrl, boolean isLiked);
+    }
+}
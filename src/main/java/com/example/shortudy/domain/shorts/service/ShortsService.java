@@ -10,12 +10,17 @@ import com.example.shortudy.domain.shorts.dto.ShortsUpdateRequest;
 import com.example.shortudy.domain.shorts.entity.Shorts;
 import com.example.shortudy.domain.shorts.entity.ShortsStatus;
 import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.example.shortudy.domain.shorts.event.ShortsDraftSavedEvent;
+import com.example.shortudy.domain.shorts.random.ShortsRandomSampler;
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
 import com.example.shortudy.global.config.S3Service;
 import com.example.shortudy.global.error.BaseException;
 
 import com.example.shortudy.global.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,6 +28,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -49,14 +58,18 @@ public class ShortsService {
     // 숏츠 삭제 시 댓글/좋아요도 다 날리기 위해 추가
     private final CommentRepository commentRepository;
     private final ShortsLikeRepository shortsLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShortsRandomSampler shortsRandomSampler;
 
-    public ShortsService(ShortsRepository shortsRepository, CategoryRepository categoryRepository, KeywordService keywordService, S3Service s3Service, CommentRepository commentRepository, ShortsLikeRepository shortsLikeRepository) {
+    public ShortsService(ShortsRepository shortsRepository, CategoryRepository categoryRepository, KeywordService keywordService, S3Service s3Service, CommentRepository commentRepository, ShortsLikeRepository shortsLikeRepository, ApplicationEventPublisher eventPublisher, ShortsRandomSampler shortsRandomSampler) {
         this.shortsRepository = shortsRepository;
         this.categoryRepository = categoryRepository;
         this.keywordService = keywordService;
         this.s3Service = s3Service;
         this.commentRepository = commentRepository;
         this.shortsLikeRepository = shortsLikeRepository;
+        this.eventPublisher = eventPublisher;
+        this.shortsRandomSampler = shortsRandomSampler;
     }
 
 
@@ -67,14 +80,36 @@ public class ShortsService {
 
     public Page<Shorts> getShortsEntityList(Pageable pageable) {
         if (isRandomSortRequested(pageable)) {
-            return shortsRepository.findRandomPublishedShorts(pageable);
+            return getRandomShortsEntities(pageable);
         }
 
         if (hasValidSortProperties(pageable)) {
             return shortsRepository.findByStatusAndVisibility(ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, pageable);
         }
 
-        return shortsRepository.findRandomPublishedShorts(pageable);
+        return getRandomShortsEntities(pageable);
+    }
+
+    /**
+     * 랜덤 목록 - 샘플러에서 ID를 뽑은 뒤 PK IN 조회로 가져옵니다. (ORDER BY rand() 미사용)
+     * - 랜덤 목록은 매 호출마다 달라지므로 페이지 번호와 무관하게 pageSize만큼 샘플링합니다.
+     */
+    private Page<Shorts> getRandomShortsEntities(Pageable pageable) {
+        List<Long> ids = shortsRandomSampler.sample(pageable.getPageSize(), Set.of());
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 샘플링 순서로 되돌린다.
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        List<Shorts> content = shortsRepository
+                .findByIdInAndStatusAndVisibility(ids, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC).stream()
+                .sorted(Comparator.comparing(shorts -> order.get(shorts.getId())))
+                .toList();
+        return new PageImpl<>(content, pageable, shortsRandomSampler.size());
     }
 
     public Page<Shorts> getShortsEntityByCategory(Long categoryId, Pageable pageable) {
@@ -86,7 +121,8 @@ public class ShortsService {
         if (days == null || days <= 0) days = 30;
         if (days > 90) days = 90;
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return shortsRepository.findPopularShorts(since, pageable);
+        // 정렬은 쿼리의 (trendingScore, id)로 고정
+        return shortsRepository.findPopularShorts(since, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
     public Page<Shorts> getMyShortsEntities(Long userId, Pageable pageable) {
@@ -104,7 +140,8 @@ public class ShortsService {
         if (!shorts.isWrittenBy(userId)) {
             throw new BaseException(ErrorCode.SHORTS_FORBIDDEN);
         }
-        
+
+        boolean wasPublished = shorts.getStatus() == ShortsStatus.PUBLISHED;
         shorts.updateShorts(
             request.title(),
             request.description(),
@@ -119,17 +156,20 @@ public class ShortsService {
         }
 
         if (request.keywords() != null) {
-            shorts.clearKeywords();
-            shortsRepository.flush();
-            request.keywords().forEach(k -> shorts.addKeyword(keywordService.getValidKeyword(k)));
+            shorts.replaceKeywords(keywordService.resolveKeywords(request.keywords()));
         }
 
 
         shortsRepository.saveAndFlush(shorts);
 
+        // 커밋 이후 피드 캐시 무효화
+        eventPublisher.publishEvent(!wasPublished && shorts.getStatus() == ShortsStatus.PUBLISHED
+                ? ShortsChangedEvent.published(shortsId)
+                : ShortsChangedEvent.updated(shortsId));
+
         boolean isLiked = shortsLikeRepository.existsByUserIdAndShortsId(userId, shortsId);
         String fullProfileUrl = shorts.getUser() != null ? s3Service.getFileUrl(shorts.getUser().getProfileUrl()) : null;
-        return ShortsResponse.of(shorts, 0L, shorts.getViewCount(), isLiked, fullProfileUrl);
+        return ShortsResponse.of(shorts, shorts.getCommentCount(), shorts.getViewCount(), isLiked, fullProfileUrl);
     }
 
 
@@ -143,6 +183,7 @@ public class ShortsService {
         }
 
         deleteShortsCascade(shortsId);
+        eventPublisher.publishEvent(ShortsChangedEvent.deleted(shortsId));
     }
 
     @Transactional
@@ -157,6 +198,8 @@ public class ShortsService {
         }
 
         deleteShortsCascade(shortsId);
+        // 게시 전 초안이므로 피드 캐시는 건드리지 않고 검색 색인에서만 내린다.
+        eventPublisher.publishEvent(new ShortsDraftSavedEvent(shortsId));
         return true;
     }
 
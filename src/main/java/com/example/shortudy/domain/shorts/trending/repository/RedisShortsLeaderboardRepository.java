@@ -0,0 +1,128 @@
+package com.example.shortudy.domain.shorts.trending.repository;
+
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 숏츠 인기 리더보드 (Redis ZSET)
+ * [키 구조]
+ * - shorts:rank:global (ZSET) → 전체 리더보드, member = 숏츠 ID, score = 감쇠된 참여 점수
+ * - shorts:rank:category:{categoryId} (ZSET) → 카테고리별 리더보드
+ */
+@Repository
+public class RedisShortsLeaderboardRepository {
+
+    private static final String GLOBAL_KEY = "shorts:rank:global";
+    private static final String CATEGORY_KEY_PREFIX = "shorts:rank:category:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ZSetOperations<String, String> zSetOperations;
+
+    public RedisShortsLeaderboardRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.zSetOperations = redisTemplate.opsForZSet();
+    }
+
+    // 전체 + 카테고리 리더보드 점수를 파이프라인으로 한 번에 증감 (ZINCRBY)
+    public void incrementAll(List<Increment> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Increment increment : increments) {
+                String member = increment.shortsId().toString();
+                stringConnection.zIncrBy(GLOBAL_KEY, increment.delta(), member);
+                if (increment.categoryId() != null) {
+                    stringConnection.zIncrBy(key(increment.categoryId()), increment.delta(), member);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 리더보드에 점수를 합친다. 이미 더 높은 점수가 있으면 유지한다. (ZADD GT, 파이프라인)
+    public void mergeMax(Long categoryId, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        String key = key(categoryId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                stringConnection.zAdd(key, score.getValue(), score.getKey().toString(), ZAddArgs.empty().gt());
+            }
+            return null;
+        });
+    }
+
+    // 점수 역순으로 [offset, offset + count) 구간의 숏츠 ID 조회 (ZREVRANGE)
+    public List<Long> findRankedIds(Long categoryId, long offset, long count) {
+        Set<String> members = zSetOperations.reverseRange(key(categoryId), offset, offset + count - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String member : members) {
+            ids.add(Long.parseLong(member));
+        }
+        return ids;
+    }
+
+    public long size(Long categoryId) {
+        Long size = zSetOperations.zCard(key(categoryId));
+        return size == null ? 0L : size;
+    }
+
+    public void remove(Long categoryId, Collection<Long> shortsIds) {
+        if (shortsIds.isEmpty()) {
+            return;
+        }
+        zSetOperations.remove(key(categoryId), shortsIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 모든 리더보드 점수에 factor를 곱하고(ZUNIONSTORE WEIGHTS), 0 이하 점수와 상위 maxSize 밖의 멤버를 제거한다.
+     */
+    public void decayAndTrim(double factor, long maxSize) {
+        for (String key : leaderboardKeys()) {
+            zSetOperations.unionAndStore(key, List.of(), key, Aggregate.SUM, Weights.of(factor));
+            zSetOperations.removeRangeByScore(key, Double.NEGATIVE_INFINITY, 0);
+            zSetOperations.removeRange(key, 0, -(maxSize + 1));
+        }
+    }
+
+    private List<String> leaderboardKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(GLOBAL_KEY);
+        ScanOptions options = ScanOptions.scanOptions().match(CATEGORY_KEY_PREFIX + "*").count(100).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private String key(Long categoryId) {
+        return categoryId == null ? GLOBAL_KEY : CATEGORY_KEY_PREFIX + categoryId;
+    }
+
+    /**
+     * 리더보드 점수 증감 단위 (categoryId가 null이면 전체 리더보드만 갱신)
+     */
+    public record Increment(Long shortsId, Long categoryId, double delta) {
+    }
+}
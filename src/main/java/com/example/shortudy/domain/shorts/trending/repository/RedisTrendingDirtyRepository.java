@@ -0,0 +1,46 @@
+package com.example.shortudy.domain.shorts.trending.repository;
+
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 트렌딩 점수 재계산 대상(dirty) 숏츠 ID 집합
+ * [키 구조]
+ * - shorts:trending:dirty (SET) → 좋아요/댓글/조회수가 바뀐 뒤 아직 점수에 반영되지 않은 숏츠 ID
+ */
+@Repository
+public class RedisTrendingDirtyRepository {
+
+    private static final String DIRTY_KEY = "shorts:trending:dirty";
+
+    private final SetOperations<String, String> setOperations;
+
+    public RedisTrendingDirtyRepository(StringRedisTemplate redisTemplate) {
+        this.setOperations = redisTemplate.opsForSet();
+    }
+
+    public void add(Collection<Long> shortsIds) {
+        if (shortsIds == null || shortsIds.isEmpty()) {
+            return;
+        }
+        setOperations.add(DIRTY_KEY, shortsIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 최대 count개를 꺼내며 집합에서 제거 (SPOP)
+    public List<Long> pop(int count) {
+        List<String> members = setOperations.pop(DIRTY_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String member : members) {
+            ids.add(Long.parseLong(member));
+        }
+        return ids;
+    }
+}
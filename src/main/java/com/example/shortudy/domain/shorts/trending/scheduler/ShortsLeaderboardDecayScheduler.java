@@ -0,0 +1,33 @@
+package com.example.shortudy.domain.shorts.trending.scheduler;
+
+import com.example.shortudy.domain.shorts.trending.service.ShortsLeaderboardService;
+import com.example.shortudy.global.lock.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class ShortsLeaderboardDecayScheduler {
+
+    private static final String LOCK_NAME = "shorts:leaderboard:decay";
+    // 감쇠는 공유 ZSET에 곱하는 연산이라 인스턴스 수만큼 실행되면 안 된다. (시계 오차 대비 최소 유지 시간)
+    private static final Duration LOCK_MIN_HOLD = Duration.ofMinutes(5);
+
+    private final ShortsLeaderboardService shortsLeaderboardService;
+    private final SchedulerLock schedulerLock;
+
+    public ShortsLeaderboardDecayScheduler(ShortsLeaderboardService shortsLeaderboardService, SchedulerLock schedulerLock) {
+        this.shortsLeaderboardService = shortsLeaderboardService;
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 리더보드 점수 감쇠 + 상위 K개 유지 + DB 트렌딩 상위 K개 적재 (기본 매시 정각, 락을 얻은 인스턴스 한 곳에서만)
+    @Scheduled(cron = "${shorts.leaderboard.decay.cron:0 0 * * * *}", zone = "Asia/Seoul")
+    public void decayLeaderboards() {
+        schedulerLock.runExclusively(LOCK_NAME, LOCK_MIN_HOLD, lease -> {
+            shortsLeaderboardService.decay();
+            shortsLeaderboardService.seedFromTrendingScores();
+        });
+    }
+}
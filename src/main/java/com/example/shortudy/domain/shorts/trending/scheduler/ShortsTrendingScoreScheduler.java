@@ -0,0 +1,70 @@
+package com.example.shortudy.domain.shorts.trending.scheduler;
+
+import com.example.shortudy.domain.shorts.trending.service.ShortsTrendingService;
+import com.example.shortudy.global.lock.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class ShortsTrendingScoreScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsTrendingScoreScheduler.class);
+
+    // 한 주기에 처리할 최대 배치 수 (dirty가 폭증해도 주기 작업이 길어지지 않도록 제한)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private static final String RECOMPUTE_LOCK_NAME = "shorts:trending:recompute";
+    // 인스턴스 간 시계 오차로 조금 늦게 실행되는 인스턴스가 다시 계산하지 않도록 락을 유지할 시간
+    private static final Duration RECOMPUTE_LOCK_MIN_HOLD = Duration.ofMinutes(10);
+
+    private final ShortsTrendingService shortsTrendingService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${shorts.trending.batch-size:500}")
+    private int batchSize;
+
+    @Value("${shorts.trending.recompute.chunk-size:1000}")
+    private int chunkSize;
+
+    public ShortsTrendingScoreScheduler(ShortsTrendingService shortsTrendingService, SchedulerLock schedulerLock) {
+        this.shortsTrendingService = shortsTrendingService;
+        this.schedulerLock = schedulerLock;
+    }
+
+    // 카운터가 바뀐 숏츠의 트렌딩 점수만 갱신 (기본 30초)
+    @Scheduled(fixedDelayString = "${shorts.trending.refresh-interval-ms:30000}")
+    public void refreshDirtyScores() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (shortsTrendingService.refreshDirtyScores(batchSize) < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 하루 1회, 전체 숏츠의 트렌딩 점수를 다시 계산한다. (누락 보정 / 신규 컬럼 백필, 락을 얻은 인스턴스 한 곳에서만)
+    @Scheduled(cron = "${shorts.trending.recompute.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void recomputeAllScores() {
+        schedulerLock.runExclusively(RECOMPUTE_LOCK_NAME, RECOMPUTE_LOCK_MIN_HOLD, this::recompute);
+    }
+
+    private void recompute(SchedulerLock.Lease lease) {
+        long afterId = 0L;
+        int updatedCount = 0;
+
+        List<Long> ids;
+        while (lease.isHeld() && !(ids = shortsTrendingService.findIdChunk(afterId, chunkSize)).isEmpty()) {
+            afterId = ids.get(ids.size() - 1);
+            updatedCount += shortsTrendingService.recomputeRange(ids.get(0), afterId);
+        }
+
+        if (updatedCount > 0) {
+            log.info("숏츠 트렌딩 점수 전체 재계산 완료 - updatedCount={}, lastId={}", updatedCount, afterId);
+        }
+    }
+}
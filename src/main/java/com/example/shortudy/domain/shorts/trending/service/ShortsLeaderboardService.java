@@ -0,0 +1,181 @@
+package com.example.shortudy.domain.shorts.trending.service;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.category.repository.CategoryRepository;
+import com.example.shortudy.domain.shorts.dto.ShortsRow;
+import com.example.shortudy.domain.shorts.event.ShortsEngagementEvent;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository.ShortsCategoryIdProjection;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository.TrendingTopProjection;
+import com.example.shortudy.domain.shorts.trending.repository.RedisShortsLeaderboardRepository;
+import com.example.shortudy.domain.shorts.trending.repository.RedisShortsLeaderboardRepository.Increment;
+import com.example.shortudy.domain.shorts.trending.support.TrendingScoreCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 숏츠 인기 리더보드 서비스 (전체 / 카테고리별 Redis ZSET)
+ * [갱신]
+ * - 좋아요/댓글: ShortsEngagementEvent 커밋 이후 ZINCRBY (가중치는 TrendingScoreCalculator와 동일)
+ * - 조회수: 조회수 flush 시 반영된 증가분을 한 번에 ZINCRBY (파이프라인)
+ * - 주기적으로 전체 점수에 감쇠 계수를 곱하고 상위 K개만 남긴다. → 갱신 O(log N), 조회 O(K)
+ * - 같은 주기에 DB 트렌딩 점수 상위 K개를 합쳐 넣는다. (참여 이벤트는 증가분만 더하므로, 이것이 없으면 배포 이후 참여가 있었던 숏츠만 남는다)
+ * [조회]
+ * - ZREVRANGE로 순위 ID를 읽고 한 번의 IN 쿼리로 채운다.
+ * - 리더보드가 요청 구간(offset + size)을 다 채우지 못하면 DB 트렌딩 점수 경로로 대체한다.
+ * - 삭제/비공개/카테고리 변경으로 더 이상 맞지 않는 ID는 조회 시점에 리더보드에서 제거한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ShortsLeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsLeaderboardService.class);
+
+    private final RedisShortsLeaderboardRepository leaderboardRepository;
+    private final ShortsRepository shortsRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Value("${shorts.leaderboard.decay-factor:0.9}")
+    private double decayFactor;
+
+    @Value("${shorts.leaderboard.max-size:1000}")
+    private long maxSize;
+
+    public ShortsLeaderboardService(RedisShortsLeaderboardRepository leaderboardRepository,
+                                    ShortsRepository shortsRepository,
+                                    CategoryRepository categoryRepository) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.shortsRepository = shortsRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onEngagementChanged(ShortsEngagementEvent event) {
+        long weight = switch (event.type()) {
+            case LIKE -> TrendingScoreCalculator.LIKE_WEIGHT;
+            case COMMENT -> TrendingScoreCalculator.COMMENT_WEIGHT;
+        };
+        increment(List.of(new Increment(event.shortsId(), event.categoryId(), (double) weight * event.delta())));
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 리더보드에 반영한다. (카테고리 ID는 1회 IN 쿼리로 조회)
+     */
+    public void incrementViews(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        List<Increment> increments = new ArrayList<>(viewCounts.size());
+        for (ShortsCategoryIdProjection p : shortsRepository.findCategoryIdsByIds(viewCounts.keySet())) {
+            double delta = (double) TrendingScoreCalculator.VIEW_WEIGHT * viewCounts.get(p.getShortsId());
+            increments.add(new Increment(p.getShortsId(), p.getCategoryId(), delta));
+        }
+        increment(increments);
+    }
+
+    /**
+     * 리더보드 순위대로 숏츠 행을 조회한다.
+     * @param categoryId null이면 전체 리더보드
+     * @return 리더보드가 요청 구간 뒤까지 채워져 있지 않거나 Redis 장애 시 empty (호출측에서 DB 경로로 대체)
+     */
+    public Optional<Slice<ShortsRow>> findRankedRows(Long categoryId, Pageable pageable) {
+        List<Long> ids;
+        try {
+            // 다음 페이지가 있다고 답할 수 있을 만큼(요청 구간 + 1) 채워져 있을 때만 리더보드를 쓴다.
+            if (leaderboardRepository.size(categoryId) <= pageable.getOffset() + pageable.getPageSize()) {
+                return Optional.empty();
+            }
+            ids = leaderboardRepository.findRankedIds(categoryId, pageable.getOffset(), pageable.getPageSize());
+        } catch (DataAccessException e) {
+            log.warn("리더보드 조회 실패, DB로 대체 - categoryId={}", categoryId, e);
+            return Optional.empty();
+        }
+
+        Map<Long, ShortsRow> rowsById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ShortsRow row : shortsRepository.findResponsesByIds(ids)) {
+                rowsById.put(row.shortsId(), row);
+            }
+        }
+
+        List<ShortsRow> ranked = new ArrayList<>(ids.size());
+        List<Long> stale = new ArrayList<>();
+        for (Long id : ids) {
+            ShortsRow row = rowsById.get(id);
+            if (row == null || (categoryId != null && !Objects.equals(categoryId, row.categoryId()))) {
+                stale.add(id);
+            } else {
+                ranked.add(row);
+            }
+        }
+        removeStale(categoryId, stale);
+        return Optional.of(new SliceImpl<>(ranked, pageable, true));
+    }
+
+    /**
+     * 모든 리더보드에 감쇠 계수를 적용하고 상위 K개만 남긴다.
+     */
+    public void decay() {
+        leaderboardRepository.decayAndTrim(decayFactor, maxSize);
+    }
+
+    /**
+     * DB 트렌딩 점수 상위 K개를 전체 / 카테고리별 리더보드에 합쳐 넣는다.
+     * - 점수는 같은 단위(시간 감쇠된 참여도)로 바꿔 ZADD GT로 넣는다. → 최근 참여로 더 높아진 점수는 유지
+     */
+    public void seedFromTrendingScores() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable top = PageRequest.of(0, (int) maxSize);
+        leaderboardRepository.mergeMax(null, toSeedScores(shortsRepository.findTopTrending(top), now));
+        for (Category category : categoryRepository.findAll()) {
+            leaderboardRepository.mergeMax(category.getId(),
+                    toSeedScores(shortsRepository.findTopTrendingByCategoryId(category.getId(), top), now));
+        }
+    }
+
+    private Map<Long, Double> toSeedScores(List<TrendingTopProjection> rows, LocalDateTime now) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (TrendingTopProjection row : rows) {
+            scores.put(row.getShortsId(), TrendingScoreCalculator.decayedEngagement(row.getTrendingScore(), now));
+        }
+        return scores;
+    }
+
+    private void increment(List<Increment> increments) {
+        try {
+            leaderboardRepository.incrementAll(increments);
+        } catch (DataAccessException e) {
+            log.warn("리더보드 갱신 실패 - size={}", increments.size(), e);
+        }
+    }
+
+    private void removeStale(Long categoryId, List<Long> stale) {
+        if (stale.isEmpty()) {
+            return;
+        }
+        try {
+            leaderboardRepository.remove(categoryId, stale);
+        } catch (DataAccessException e) {
+            log.warn("리더보드 정리 실패 - categoryId={}", categoryId, e);
+        }
+    }
+}
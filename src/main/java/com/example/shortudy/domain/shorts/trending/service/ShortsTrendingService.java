@@ -0,0 +1,131 @@
+package com.example.shortudy.domain.shorts.trending.service;
+
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.example.shortudy.domain.shorts.event.ShortsEngagementEvent;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository.TrendingSourceProjection;
+import com.example.shortudy.domain.shorts.trending.repository.RedisTrendingDirtyRepository;
+import com.example.shortudy.domain.shorts.trending.support.TrendingScoreCalculator;
+import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 숏츠 트렌딩 점수 갱신 서비스
+ * [배경]
+ * - 인기 목록이 기간 내 전체 행을 좋아요 수로 정렬해 조회수/댓글을 반영하지 못하고, 기간이 길수록 느려졌다.
+ * [동작 방식]
+ * 1. 좋아요/댓글/게시/조회수 반영 시 해당 숏츠 ID를 dirty 집합(Redis SET)에 등록한다.
+ * 2. 주기 작업이 dirty ID를 배치로 꺼내 카운터(+ Redis 미반영 조회수)로 점수를 다시 계산하고 trending_score에 저장한다.
+ * 3. 점수 자체에 게시 시각이 들어가 있어 시간 경과만으로는 재계산이 필요 없다. (TrendingScoreCalculator)
+ * 4. 하루 1회 id 구간별 전체 재계산으로 누락분을 보정한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ShortsTrendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShortsTrendingService.class);
+
+    private final ShortsRepository shortsRepository;
+    private final RedisTrendingDirtyRepository redisTrendingDirtyRepository;
+    private final RedisShortsViewCountRepository redisShortsViewCountRepository;
+
+    public ShortsTrendingService(ShortsRepository shortsRepository,
+                                 RedisTrendingDirtyRepository redisTrendingDirtyRepository,
+                                 RedisShortsViewCountRepository redisShortsViewCountRepository) {
+        this.shortsRepository = shortsRepository;
+        this.redisTrendingDirtyRepository = redisTrendingDirtyRepository;
+        this.redisShortsViewCountRepository = redisShortsViewCountRepository;
+    }
+
+    /**
+     * 점수 재계산 대상으로 등록한다. Redis 장애 시에는 일일 전체 재계산에서 보정된다.
+     */
+    public void markDirty(Collection<Long> shortsIds) {
+        try {
+            redisTrendingDirtyRepository.add(shortsIds);
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 점수 갱신 대상 등록 실패 - shortsIds={}", shortsIds, e);
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onEngagementChanged(ShortsEngagementEvent event) {
+        markDirty(List.of(event.shortsId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onShortsChanged(ShortsChangedEvent event) {
+        if (event.type() != ShortsChangedEvent.ChangeType.DELETED) {
+            markDirty(List.of(event.shortsId()));
+        }
+    }
+
+    /**
+     * dirty 집합에서 최대 batchSize개를 꺼내 점수를 갱신한다.
+     * - 갱신에 실패하면 꺼낸 ID를 다시 등록해 다음 주기에 재시도한다.
+     * @return 꺼낸 숏츠 수 (batchSize보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int refreshDirtyScores(int batchSize) {
+        List<Long> ids = redisTrendingDirtyRepository.pop(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Map<Long, Long> pendingViews = redisShortsViewCountRepository.findPendingViewCounts(ids);
+            updateScores(shortsRepository.findTrendingSources(ids), pendingViews);
+        } catch (RuntimeException e) {
+            markDirty(ids);
+            throw e;
+        }
+        return ids.size();
+    }
+
+    /**
+     * afterId 다음 숏츠 id를 최대 size개 조회한다. (전체 재계산 구간 분할용)
+     */
+    public List<Long> findIdChunk(long afterId, int size) {
+        return shortsRepository.findIdsAfter(afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * [fromId, toId] 구간 전체의 점수를 다시 계산한다. (일일 보정)
+     * @return 점수가 바뀐 숏츠 수
+     */
+    @Transactional
+    public int recomputeRange(long fromId, long toId) {
+        List<TrendingSourceProjection> sources = shortsRepository.findTrendingSourcesInRange(fromId, toId);
+        if (sources.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = sources.stream().map(TrendingSourceProjection::getShortsId).toList();
+        return updateScores(sources, redisShortsViewCountRepository.findPendingViewCounts(ids));
+    }
+
+    private int updateScores(List<TrendingSourceProjection> sources, Map<Long, Long> pendingViews) {
+        int updated = 0;
+        for (TrendingSourceProjection source : sources) {
+            long score = TrendingScoreCalculator.calculate(
+                    source.getViewCount() + pendingViews.getOrDefault(source.getShortsId(), 0L),
+                    source.getLikeCount(),
+                    source.getCommentCount(),
+                    source.getPublishedAt());
+            updated += shortsRepository.updateTrendingScore(source.getShortsId(), score);
+        }
+        return updated;
+    }
+}
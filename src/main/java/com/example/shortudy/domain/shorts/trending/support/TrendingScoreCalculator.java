@@ -0,0 +1,43 @@
+package com.example.shortudy.domain.shorts.trending.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 시간 감쇠 트렌딩 점수 계산기
+ * [공식] score = (log10(max(참여도, 1)) + (게시 시각 - 기준 시각) / DECAY_SECONDS) * SCALE
+ * - 참여도 = 조회수 * 1 + 좋아요 * 5 + 댓글 * 10
+ * - 참여도가 10배가 되는 것과 DECAY_SECONDS(12.5시간) 늦게 게시된 것이 같은 점수 차이를 가진다.
+ * - 게시 시각이 점수에 고정되어 들어가므로 시간이 흘러도 다시 계산할 필요가 없다. (카운터가 바뀐 숏츠만 갱신)
+ * - 정렬/인덱스를 위해 정수(BIGINT)로 저장한다.
+ */
+public final class TrendingScoreCalculator {
+
+    public static final long VIEW_WEIGHT = 1L;
+    public static final long LIKE_WEIGHT = 5L;
+    public static final long COMMENT_WEIGHT = 10L;
+
+    private static final double DECAY_SECONDS = 45_000d;
+    private static final long BASE_EPOCH_SECONDS = 1_735_689_600L; // 2025-01-01T00:00:00Z
+    private static final double SCALE = 1_000_000d;
+
+    private TrendingScoreCalculator() {
+    }
+
+    public static long calculate(long viewCount, long likeCount, long commentCount, LocalDateTime publishedAt) {
+        long engagement = viewCount * VIEW_WEIGHT + likeCount * LIKE_WEIGHT + commentCount * COMMENT_WEIGHT;
+        double order = Math.log10(Math.max(engagement, 1L));
+        double age = (publishedAt.toEpochSecond(ZoneOffset.UTC) - BASE_EPOCH_SECONDS) / DECAY_SECONDS;
+        return Math.round((order + age) * SCALE);
+    }
+
+    /**
+     * 저장된 점수를 now 시점의 "시간 감쇠된 참여도"로 되돌린다. (리더보드 초기 적재용)
+     * - score / SCALE - (now - 기준 시각) / DECAY_SECONDS = log10(참여도) - 게시 후 경과 / DECAY_SECONDS
+     * - 10^x로 되돌리면 리더보드 점수(참여 가중치 합, 시간 감쇠)와 같은 단위가 된다.
+     */
+    public static double decayedEngagement(long score, LocalDateTime now) {
+        double nowAge = (now.toEpochSecond(ZoneOffset.UTC) - BASE_EPOCH_SECONDS) / DECAY_SECONDS;
+        return Math.pow(10, score / SCALE - nowAge);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.shortudy.domain.shorts.view.buffer;
+
+import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 증가분 로컬 버퍼 (인스턴스 내 집계 → 주기적으로 Redis 반영)
+ * [배경]
+ * - 인기 숏츠는 한 인스턴스에서도 초당 수천 번 조회되는데, 조회마다 HINCRBY를 보내고 있었다.
+ * [동작 방식]
+ * 1. 중복 판정을 통과한 증가분을 숏츠별 LongAdder에 더한다. (스레드 간 경합 없이 분산 누적)
+ * 2. shorts.view.buffer.drain-interval-ms(기본 200ms)마다 모인 증가분을 파이프라인 한 번으로 Redis에 반영한다.
+ *    → Redis 쓰기 횟수가 "조회 수"에서 "주기 × 조회된 숏츠 수"로 줄어든다.
+ * 3. 한 주기 동안 증가가 없던 슬롯은 제거해 메모리를 숏츠 수가 아닌 최근 조회된 숏츠 수로 제한한다.
+ * 4. 종료 시(정상 종료) 남은 증가분을 모두 반영한다.
+ * [전용 스레드]
+ * - 반영 주기가 짧아 @Scheduled 공용 스케줄러(기본 스레드 1개)를 쓰면 다른 작업이 길어질 때 함께 밀린다.
+ *   반대로 200ms마다 공용 스레드를 차지해 다른 작업도 늦춘다. → 자체 스레드 하나에서 실행한다.
+ * [주의]
+ * - 반영에 실패하면 증가분을 버퍼로 되돌려 다음 주기에 다시 보낸다. (파이프라인 일부만 반영된 경우 중복 반영 가능)
+ * - 비정상 종료 시 최대 한 주기 분량의 증가분을 잃을 수 있다.
+ * [메트릭]
+ * - shorts.view.buffer.size: 버퍼에 있는 숏츠 수
+ * - shorts.view.buffer.pending: 아직 반영하지 않은 조회수 합
+ * - shorts.view.buffer.drain: 반영 소요 시간 / shorts.view.buffer.drain.failures: 반영 실패 횟수
+ */
+@Component
+public class ViewCountBuffer implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountBuffer.class);
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final RedisShortsViewCountRepository viewCountRepository;
+
+    private final Timer drainTimer;
+    private final Counter drainFailures;
+
+    private final ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-buffer-drain");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${shorts.view.buffer.drain-interval-ms:200}")
+    private long drainIntervalMs;
+
+    public ViewCountBuffer(RedisShortsViewCountRepository viewCountRepository, MeterRegistry meterRegistry) {
+        this.viewCountRepository = viewCountRepository;
+
+        Gauge.builder("shorts.view.buffer.size", slots, Map::size)
+                .description("조회수 로컬 버퍼에 있는 숏츠 수")
+                .register(meterRegistry);
+        Gauge.builder("shorts.view.buffer.pending", this, ViewCountBuffer::pendingViews)
+                .description("Redis에 아직 반영하지 않은 조회수 합")
+                .register(meterRegistry);
+        this.drainTimer = Timer.builder("shorts.view.buffer.drain")
+                .description("조회수 로컬 버퍼 → Redis 반영 소요 시간")
+                .register(meterRegistry);
+        this.drainFailures = Counter.builder("shorts.view.buffer.drain.failures")
+                .description("조회수 로컬 버퍼 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    public void add(Long shortsId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        Slot slot = slots.computeIfAbsent(shortsId, id -> new Slot());
+        slot.adder.add(delta);
+        if (slot.retired) {
+            // 제거 중인 슬롯에 더했다면, drain이 가져가지 못했을 수 있는 값을 새 슬롯으로 옮긴다.
+            add(shortsId, slot.adder.sumThenReset());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        drainer.scheduleWithFixedDelay(this::drainSafely, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void drain() {
+        Map<Long, Long> increments = collect();
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            viewCountRepository.increaseViewCounts(increments);
+        } catch (DataAccessException e) {
+            drainFailures.increment();
+            increments.forEach(this::add);
+            log.warn("조회수 버퍼 반영 실패 - 다음 주기에 재시도합니다. size={}", increments.size(), e);
+        } finally {
+            drainTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        drainer.shutdown();
+        drainer.awaitTermination(1, TimeUnit.SECONDS);
+        drain();
+        long remaining = pendingViews();
+        if (remaining > 0) {
+            log.error("종료 시 조회수 버퍼를 반영하지 못했습니다. pending={}", remaining);
+        }
+    }
+
+    // 예외가 나가면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 삼킨다.
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("조회수 버퍼 반영 중 예외", e);
+        }
+    }
+
+    /**
+     * 슬롯마다 누적값을 가져오고(sumThenReset), 한 주기 동안 증가가 없던 슬롯은 제거한다.
+     * - 제거 순서: 맵에서 제거 → retired 표시 → 마지막으로 한 번 더 비움
+     * - add가 retired를 보지 못했다면 그 증가분은 마지막 비움에 포함되고, 봤다면 add가 직접 새 슬롯으로 옮긴다.
+     */
+    private Map<Long, Long> collect() {
+        Map<Long, Long> increments = new HashMap<>();
+        for (Map.Entry<Long, Slot> entry : slots.entrySet()) {
+            Slot slot = entry.getValue();
+            long count = slot.adder.sumThenReset();
+            if (count == 0 && slots.remove(entry.getKey(), slot)) {
+                slot.retired = true;
+                count = slot.adder.sumThenReset();
+            }
+            if (count > 0) {
+                increments.merge(entry.getKey(), count, Long::sum);
+            }
+        }
+        return increments;
+    }
+
+    private long pendingViews() {
+        long total = 0;
+        for (Slot slot : slots.values()) {
+            total += slot.adder.sum();
+        }
+        return total;
+    }
+
+    private static final class Slot {
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+    }
+}
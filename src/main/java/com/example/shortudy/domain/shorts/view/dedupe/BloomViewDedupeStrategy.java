@@ -0,0 +1,127 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 숏츠 × 일 단위 블룸 필터 중복 판정 (Redis 문자열 비트맵 + SETBIT, 모듈 불필요)
+ * [크기 산정]
+ * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = (m / n)·ln 2  (n=하루 예상 순 방문자, p=오탐률)
+ * - 예) n=10,000, p=1% → m≈95,851비트(약 12KB), k=7
+ * [동작 방식]
+ * 1. 방문자 id의 SHA-256 앞 16바이트로 두 해시를 만들고, 이중 해싱(h1 + i·h2)으로 k개 비트 위치를 구한다.
+ * 2. 스크립트에서 k개 비트를 SETBIT → 하나라도 0이었다면 새 조회로 보고 카운터를 올린다.
+ * 3. 키는 날짜별로 돌고(shorts:view:bloom:{yyyyMMdd}:{id}) 이틀 뒤 만료된다.
+ * [주의]
+ * - 오탐은 새 조회를 중복으로 판정하는 쪽(과소 집계)으로만 생긴다.
+ * - 하루 순 방문자가 n을 넘으면 오탐률이 p보다 커진다.
+ * - 중복 판정 기준이 "24시간"에서 "같은 날"로 바뀐다.
+ */
+public class BloomViewDedupeStrategy implements ViewDedupeStrategy {
+
+    public static final String KEY_PREFIX = "shorts:view:bloom:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String TTL_SECONDS = String.valueOf(2 * 24 * 60 * 60);
+
+    // ARGV[2]=TTL(초), ARGV[3..]=비트 위치
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local added = 0
+            for i = 3, #ARGV do
+                if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then
+                    added = 1
+                end
+            end
+            if added == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                if #KEYS > 1 then
+                    redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+                end
+            end
+            return added
+            """, Long.class);
+
+    private final long bitCount;
+    private final int hashCount;
+    private final Clock clock;
+
+    public BloomViewDedupeStrategy(long expectedViewsPerDay, double falsePositiveRate, Clock clock) {
+        if (expectedViewsPerDay <= 0) {
+            throw new IllegalArgumentException("expectedViewsPerDay는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+        double ln2 = Math.log(2);
+        // Redis 문자열 최대 크기(512MB = 2^32 비트)를 넘지 않도록 제한
+        this.bitCount = Math.min((long) Math.ceil(-expectedViewsPerDay * Math.log(falsePositiveRate) / (ln2 * ln2)), 1L << 32);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedViewsPerDay * ln2));
+        this.clock = clock;
+    }
+
+    @Override
+    public String key(Long shortsId, String visitorId) {
+        return KEY_PREFIX + LocalDate.now(clock).format(DAY) + ":" + shortsId;
+    }
+
+    @Override
+    public List<String> args(String visitorId) {
+        long[] positions = positions(visitorId);
+        List<String> args = new ArrayList<>(positions.length + 1);
+        args.add(TTL_SECONDS);
+        for (long position : positions) {
+            args.add(Long.toString(position));
+        }
+        return args;
+    }
+
+    @Override
+    public RedisScript<Long> script() {
+        return SCRIPT;
+    }
+
+    @Override
+    public String footprint() {
+        return String.format("숏츠당 최대 %,d bytes/일 (m=%,d비트, k=%d), 최근 2일치 보관", bytesPerShort(), bitCount, hashCount);
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long bytesPerShort() {
+        return (bitCount + 7) / 8;
+    }
+
+    long[] positions(String visitorId) {
+        ByteBuffer hash = ByteBuffer.wrap(sha256(visitorId));
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+        long[] positions = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            positions[i] = Math.floorMod(h1 + i * h2, bitCount);
+        }
+        return positions;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
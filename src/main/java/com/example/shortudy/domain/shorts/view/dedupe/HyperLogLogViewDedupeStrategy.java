@@ -0,0 +1,69 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 숏츠 × 일 단위 HyperLogLog 중복 판정
+ * [동작 방식]
+ * - PFADD로 방문자를 넣고, 추정 순 방문자 수(PFCOUNT)가 늘어난 만큼만 카운터를 올린다. (델타 카운터)
+ * - 조회 1건 단위로 판정하지 않고 추정치 변화량을 반영하므로, 누적 조회수는 HLL 추정치(표준 오차 0.81%)를 따라간다.
+ * [메모리]
+ * - 키 하나가 최대 12KB (희소 표현일 때는 수백 bytes), 이틀 뒤 만료
+ * - 오탐률은 설정할 수 없다. (Redis HLL 레지스터 수 고정)
+ */
+public class HyperLogLogViewDedupeStrategy implements ViewDedupeStrategy {
+
+    public static final String KEY_PREFIX = "shorts:view:hll:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String TTL_SECONDS = String.valueOf(2 * 24 * 60 * 60);
+    private static final long MAX_BYTES_PER_SHORT = 12 * 1024 + 16;
+
+    // ARGV[2]=TTL(초), ARGV[3]=방문자 id
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local before = redis.call('PFCOUNT', KEYS[1])
+            if redis.call('PFADD', KEYS[1], ARGV[3]) == 0 then
+                return 0
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            local delta = redis.call('PFCOUNT', KEYS[1]) - before
+            if delta <= 0 then
+                return 0
+            end
+            if #KEYS > 1 then
+                redis.call('HINCRBY', KEYS[2], ARGV[1], delta)
+            end
+            return delta
+            """, Long.class);
+
+    private final Clock clock;
+
+    public HyperLogLogViewDedupeStrategy(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String key(Long shortsId, String visitorId) {
+        return KEY_PREFIX + LocalDate.now(clock).format(DAY) + ":" + shortsId;
+    }
+
+    @Override
+    public List<String> args(String visitorId) {
+        return List.of(TTL_SECONDS, visitorId);
+    }
+
+    @Override
+    public RedisScript<Long> script() {
+        return SCRIPT;
+    }
+
+    @Override
+    public String footprint() {
+        return String.format("숏츠당 최대 %,d bytes/일, 표준 오차 0.81%%, 최근 2일치 보관", MAX_BYTES_PER_SHORT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * (숏츠, 방문자)마다 키 하나를 TTL로 유지하는 정확한 중복 판정
+ * - 오탐이 없지만 메모리가 순 방문 수에 비례한다. (키 1개당 약 100~150 bytes)
+ */
+public class KeyViewDedupeStrategy implements ViewDedupeStrategy {
+
+    public static final String KEY_PREFIX = "shorts:view:unique:";
+
+    // ARGV[2]=TTL(초)
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[2]) then
+                if #KEYS > 1 then
+                    redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+                end
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final String ttlSeconds;
+
+    public KeyViewDedupeStrategy(Duration ttl) {
+        this.ttlSeconds = String.valueOf(ttl.toSeconds());
+    }
+
+    @Override
+    public String key(Long shortsId, String visitorId) {
+        return KEY_PREFIX + shortsId + ":" + visitorId;
+    }
+
+    @Override
+    public List<String> args(String visitorId) {
+        return List.of(ttlSeconds);
+    }
+
+    @Override
+    public RedisScript<Long> script() {
+        return SCRIPT;
+    }
+
+    @Override
+    public String footprint() {
+        return "방문자 키 1개(약 100~150 bytes) × 순 방문 수, TTL " + ttlSeconds + "초";
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근 중복 판정한 (숏츠, 방문자) 로컬 기록
+ * [배경]
+ * - 같은 방문자가 짧은 시간에 같은 숏츠를 반복 조회(새로고침, 재생 이벤트 중복 등)해도 매번 중복 판정 스크립트(EVALSHA)를 보낸다.
+ * [동작 방식]
+ * 1. 스크립트로 판정을 마친 (숏츠, 방문자)를 shorts.view.seen-cache.ttl-ms(기본 60초) 동안 기록한다.
+ *    판정 결과가 새 조회든 중복이든, 그 뒤로 중복 판정 창(24시간 등)이 끝날 때까지는 Redis도 중복으로 판정한다.
+ * 2. 기록이 남아 있는 조회는 Redis를 거치지 않고 중복으로 처리한다.
+ * [참고]
+ * - 인스턴스 로컬 기록이므로 다른 인스턴스로 간 반복 조회는 그대로 스크립트를 거친다. (결과는 같고 왕복만 생긴다)
+ * - 중복 판정 창이 TTL 안에 끝나는 경계 시점에는 새 조회 한 번이 늦게(다음 판정 때) 집계될 수 있다.
+ */
+@Component
+public class RecentViewerCache {
+
+    private final Cache<String, Boolean> recentViewers;
+
+    public RecentViewerCache(@Value("${shorts.view.seen-cache.ttl-ms:60000}") long ttlMs,
+                             @Value("${shorts.view.seen-cache.max-size:200000}") long maxSize) {
+        this.recentViewers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isRecent(Long shortsId, String visitorId) {
+        return recentViewers.getIfPresent(key(shortsId, visitorId)) != null;
+    }
+
+    public void mark(Long shortsId, String visitorId) {
+        recentViewers.put(key(shortsId, visitorId), Boolean.TRUE);
+    }
+
+    private static String key(Long shortsId, String visitorId) {
+        return shortsId + ":" + visitorId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 조회수 중복 판정 전략 선택 (shorts.view.dedupe.mode)
+ * - 기동 시 선택된 전략과 예상 메모리 사용량을 로그로 남긴다.
+ */
+@Configuration
+public class ViewDedupeConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewDedupeConfig.class);
+
+    @Bean
+    public ViewDedupeStrategy viewDedupeStrategy(ViewDedupeProperties properties) {
+        Clock clock = Clock.systemDefaultZone();
+        ViewDedupeStrategy strategy = switch (properties.getMode()) {
+            case KEY -> new KeyViewDedupeStrategy(Duration.ofSeconds(properties.getUniqueTtlSeconds()));
+            case BLOOM -> new BloomViewDedupeStrategy(properties.getExpectedViewsPerDay(), properties.getFalsePositiveRate(), clock);
+            case HLL -> new HyperLogLogViewDedupeStrategy(clock);
+        };
+        log.info("조회수 중복 판정 전략: mode={}, {}", properties.getMode(), strategy.footprint());
+        return strategy;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 중복 판정 설정 (shorts.view.dedupe.*)
+ * - mode=KEY(기본)이면 기존처럼 (숏츠, 방문자)마다 키를 만든다. → 메모리가 조회 수에 비례
+ * - BLOOM / HLL은 숏츠 × 일 단위 키 하나로 판정한다. → 메모리가 숏츠 수에 비례
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "shorts.view.dedupe")
+public class ViewDedupeProperties {
+
+    public enum Mode {
+        KEY,
+        BLOOM,
+        HLL
+    }
+
+    private Mode mode = Mode.KEY;
+    // KEY 방식의 방문자 키 유지 시간(초)
+    private long uniqueTtlSeconds = 86400;
+    // BLOOM 방식: 숏츠 1개가 하루에 받을 것으로 예상하는 순 방문자 수 (필터 크기 기준)
+    private long expectedViewsPerDay = 10000;
+    // BLOOM 방식: 예상 방문자 수까지의 오탐률 (새 조회를 중복으로 잘못 판정할 확률)
+    private double falsePositiveRate = 0.01;
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public void setUniqueTtlSeconds(long uniqueTtlSeconds) {
+        this.uniqueTtlSeconds = uniqueTtlSeconds;
+    }
+
+    public void setExpectedViewsPerDay(long expectedViewsPerDay) {
+        this.expectedViewsPerDay = expectedViewsPerDay;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 조회수 중복 판정 전략
+ * - 중복 판정과 카운터 증가를 스크립트 하나로 처리한다. (RedisShortsViewCountRepository.recordUniqueView)
+ * [스크립트 규약]
+ * - KEYS[1]=중복 판정 키, KEYS[2]=카운터 해시
+ *   KEYS[2]를 넘기지 않으면 중복 판정만 하고, 카운터 증가는 호출자(로컬 버퍼)가 맡는다.
+ * - ARGV[1]=숏츠 id, ARGV[2..]=전략별 인자 (args)
+ * - 반환: 카운터 증가량 (중복이면 0)
+ */
+public interface ViewDedupeStrategy {
+
+    String key(Long shortsId, String visitorId);
+
+    List<String> args(String visitorId);
+
+    RedisScript<Long> script();
+
+    /**
+     * 메모리 사용량 추정 (기동 로그용)
+     */
+    String footprint();
+}
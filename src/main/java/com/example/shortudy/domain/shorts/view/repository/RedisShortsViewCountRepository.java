@@ -1,32 +1,51 @@
 package com.example.shortudy.domain.shorts.view.repository;
 
+import com.example.shortudy.domain.shorts.view.dedupe.KeyViewDedupeStrategy;
+import com.example.shortudy.domain.shorts.view.dedupe.ViewDedupeStrategy;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 @Repository
 public class RedisShortsViewCountRepository {
 
     private static final String COUNT_KEY = "shorts:view:count";
-    private static final String PENDING_KEY = "shorts:view:pending";
-    private static final String UNIQUE_KEY_PREFIX = "shorts:view:unique:";
+    private static final String UNIQUE_KEY_PREFIX = KeyViewDedupeStrategy.KEY_PREFIX;
 
+    /**
+     * 반영분 정산 스크립트
+     * - KEYS[1]=카운터 해시 / ARGV=숏츠 id, 반영한 조회수 쌍의 나열
+     */
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+                local left = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+                if left <= 0 then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
     private final HashOperations<String, String, String> hashOperations;
-    private final SetOperations<String, String> setOperations;
     private final ValueOperations<String, String> valueOperations;
 
     public RedisShortsViewCountRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
         this.hashOperations = redisTemplate.opsForHash();
-        this.setOperations = redisTemplate.opsForSet();
         this.valueOperations = redisTemplate.opsForValue();
     }
 
@@ -40,17 +59,67 @@ public class RedisShortsViewCountRepository {
     // 조회수 카운터 증가
     public void increaseViewCount(Long shortsId) {
         hashOperations.increment(COUNT_KEY, shortsId.toString(), 1L);
-        setOperations.add(PENDING_KEY, shortsId.toString());
     }
 
-    // Redis에 누적된 조회수 조회
-    public Map<Long, Long> findPendingViewCounts() {
-        Set<String> ids = setOperations.members(PENDING_KEY);
-        if (ids == null || ids.isEmpty()) {
+    /**
+     * 중복 판정 + 카운터 증가를 스크립트 한 번(1 왕복)으로 원자 처리
+     * - 중복 판정 방식은 전략마다 다르다. (방문자 키 / 블룸 필터 / HyperLogLog)
+     * - 스크립트는 SHA로 실행(EVALSHA)하고, 서버에 캐시되어 있지 않을 때만 본문을 보낸다. (NOSCRIPT → EVAL)
+     * - 두 키가 한 노드에 있어야 하므로 Redis Cluster로 옮길 때는 해시 태그로 키를 묶어야 한다.
+     *
+     * @return 새 조회로 집계되었으면 true
+     */
+    public boolean recordUniqueView(Long shortsId, String visitorId, ViewDedupeStrategy strategy) {
+        return runDedupeScript(strategy, List.of(strategy.key(shortsId, visitorId), COUNT_KEY), shortsId, visitorId) > 0;
+    }
+
+    /**
+     * 중복 판정만 스크립트로 처리하고 카운터 증가량을 돌려준다. (카운터는 ViewCountBuffer가 모아서 반영)
+     */
+    public long checkUniqueView(Long shortsId, String visitorId, ViewDedupeStrategy strategy) {
+        return runDedupeScript(strategy, List.of(strategy.key(shortsId, visitorId)), shortsId, visitorId);
+    }
+
+    // 숏츠별 증가분을 파이프라인으로 한 번에 반영 (HINCRBY)
+    public void increaseViewCounts(Map<Long, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Long> increment : increments.entrySet()) {
+                stringConnection.hIncrBy(COUNT_KEY, increment.getKey().toString(), increment.getValue());
+            }
+            return null;
+        });
+    }
+
+    private long runDedupeScript(ViewDedupeStrategy strategy, List<String> keys, Long shortsId, String visitorId) {
+        List<String> args = strategy.args(visitorId);
+        Object[] argv = new Object[args.size() + 1];
+        argv[0] = shortsId.toString();
+        for (int i = 0; i < args.size(); i++) {
+            argv[i + 1] = args.get(i);
+        }
+        Long increment = redisTemplate.execute(strategy.script(), keys, argv);
+        return increment == null ? 0L : increment;
+    }
+
+    /**
+     * 누적 조회수 해시를 HSCAN 커서로 순회한다. (한 번에 count개 내외, 커서는 호출자가 닫는다)
+     * - 같은 필드가 두 번 나올 수 있으므로 호출자가 중복을 걸러야 한다.
+     */
+    public Cursor<Map.Entry<String, String>> scanPendingViewCounts(int count) {
+        return hashOperations.scan(COUNT_KEY, ScanOptions.scanOptions().count(count).build());
+    }
+
+    // 지정한 숏츠들의 누적 조회수만 조회 (HMGET 1회, 페이지 크기에 비례)
+    public Map<Long, Long> findPendingViewCounts(Collection<Long> shortsIds) {
+        if (shortsIds == null || shortsIds.isEmpty()) {
             return Map.of();
         }
 
-        List<String> idList = new ArrayList<>(ids);
+        List<String> idList = shortsIds.stream().map(String::valueOf).toList();
         List<String> counts = hashOperations.multiGet(COUNT_KEY, idList);
         Map<Long, Long> result = new HashMap<>();
 
@@ -64,13 +133,21 @@ public class RedisShortsViewCountRepository {
         return result;
     }
 
-    // 누적 조회수 반영 후 Redis 데이터 정리
-    public void clearPending(Set<Long> shortIds) {
-        if (shortIds == null || shortIds.isEmpty()) {
+    /**
+     * DB에 반영한 만큼만 카운터에서 차감한다. (HINCRBY 음수 정산)
+     * - 읽은 뒤 DB 반영 전까지 들어온 증가분은 남기고, 0 이하가 된 필드만 지운다. → 유실 없음
+     * - 청크 전체를 스크립트 한 번으로 처리한다.
+     */
+    public void settle(Map<Long, Long> flushedCounts) {
+        if (flushedCounts == null || flushedCounts.isEmpty()) {
             return;
         }
-        String[] keys = shortIds.stream().map(String::valueOf).toArray(String[]::new);
-        setOperations.remove(PENDING_KEY, (Object[]) keys);
-        hashOperations.delete(COUNT_KEY, (Object[]) keys);
+        Object[] argv = new Object[flushedCounts.size() * 2];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : flushedCounts.entrySet()) {
+            argv[i++] = entry.getKey().toString();
+            argv[i++] = entry.getValue().toString();
+        }
+        redisTemplate.execute(SETTLE_SCRIPT, List.of(COUNT_KEY), argv);
     }
 }
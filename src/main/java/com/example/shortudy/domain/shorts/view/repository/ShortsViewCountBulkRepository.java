@@ -0,0 +1,58 @@
+package com.example.shortudy.domain.shorts.view.repository;
+
+import com.example.shortudy.domain.shorts.entity.Shorts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영 (청크 단위 단일 UPDATE)
+ * - UPDATE shorts SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+ * - 숏츠마다 UPDATE를 보내던 방식 대비 청크당 문장 1개, 왕복 1회
+ * - 네이티브 쿼리지만 동기화 대상을 Shorts로 한정해 다른 2차 캐시 영역은 비우지 않는다.
+ */
+@Repository
+public class ShortsViewCountBulkRepository {
+
+    private final EntityManager entityManager;
+
+    public ShortsViewCountBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param counts 숏츠 id → 더할 조회수
+     * @return 갱신된 행 수
+     */
+    public int addViewCounts(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE shorts SET view_count = view_count + CASE id");
+        StringBuilder in = new StringBuilder();
+        int position = 1;
+        for (int i = 0; i < counts.size(); i++) {
+            sql.append(" WHEN ?").append(position++).append(" THEN ?").append(position++);
+        }
+        for (int i = 0; i < counts.size(); i++) {
+            in.append(i == 0 ? "?" : ", ?").append(position++);
+        }
+        sql.append(" ELSE 0 END WHERE id IN (").append(in).append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Shorts.class);
+        int index = 1;
+        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+            query.setParameter(index++, entry.getKey());
+            query.setParameter(index++, entry.getValue());
+        }
+        for (Long id : counts.keySet()) {
+            query.setParameter(index++, id);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,21 +1,34 @@
 package com.example.shortudy.domain.shorts.view.scheduler;
 
 import com.example.shortudy.domain.shorts.view.service.ShortsViewCountService;
+import com.example.shortudy.global.lock.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class ShortsViewCountFlushScheduler {
 
+    private static final String LOCK_NAME = "shorts:view:flush";
+
     private final ShortsViewCountService shortsViewCountService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${shorts.view.flush-interval-ms:60000}")
+    private long flushIntervalMs;
 
-    public ShortsViewCountFlushScheduler(ShortsViewCountService shortsViewCountService) {
+    public ShortsViewCountFlushScheduler(ShortsViewCountService shortsViewCountService, SchedulerLock schedulerLock) {
         this.shortsViewCountService = shortsViewCountService;
+        this.schedulerLock = schedulerLock;
     }
 
     // Redis 조회수를 DB에 주기적으로 반영 (기본 1분)
+    // 여러 인스턴스 중 락을 얻은 한 곳만 반영하고, 주기의 90% 동안 락을 유지해 같은 주기에 다시 반영하지 않는다.
     @Scheduled(fixedDelayString = "${shorts.view.flush-interval-ms:60000}")
     public void flushViewCounts() {
-        shortsViewCountService.flushViewCounts();
+        schedulerLock.runExclusively(LOCK_NAME, Duration.ofMillis(flushIntervalMs * 9 / 10),
+                shortsViewCountService::flushViewCounts);
     }
 }
@@ -1,13 +1,32 @@
 package com.example.shortudy.domain.shorts.view.service;
 
 import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import com.example.shortudy.domain.shorts.trending.service.ShortsLeaderboardService;
+import com.example.shortudy.domain.shorts.trending.service.ShortsTrendingService;
+import com.example.shortudy.domain.shorts.view.buffer.ViewCountBuffer;
+import com.example.shortudy.domain.shorts.view.dedupe.RecentViewerCache;
+import com.example.shortudy.domain.shorts.view.dedupe.ViewDedupeStrategy;
 import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
+import com.example.shortudy.domain.shorts.view.repository.ShortsViewCountBulkRepository;
 import com.example.shortudy.global.error.BaseException;
 import com.example.shortudy.global.error.ErrorCode;
+import com.example.shortudy.global.lock.SchedulerFenceGuard;
+import com.example.shortudy.global.lock.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,17 +34,55 @@ import java.util.Set;
 @Service
 public class ShortsViewCountService {
 
+    private static final Logger log = LoggerFactory.getLogger(ShortsViewCountService.class);
+
     private static final Duration UNIQUE_TTL = Duration.ofHours(24);
 
     private final RedisShortsViewCountRepository viewCountRepository;
     private final ShortsRepository shortsRepository;
+    private final ShortsTrendingService shortsTrendingService;
+    private final ShortsLeaderboardService shortsLeaderboardService;
+    private final ShortsViewCountBulkRepository bulkRepository;
+    private final ViewDedupeStrategy dedupeStrategy;
+    private final ViewCountBuffer viewCountBuffer;
+    private final RecentViewerCache recentViewerCache;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerFenceGuard schedulerFenceGuard;
+    private final boolean scriptIngest;
+    private final boolean bufferEnabled;
+    private final int flushChunkSize;
 
-    public ShortsViewCountService(RedisShortsViewCountRepository viewCountRepository, ShortsRepository shortsRepository) {
+    public ShortsViewCountService(RedisShortsViewCountRepository viewCountRepository, ShortsRepository shortsRepository, ShortsTrendingService shortsTrendingService, ShortsLeaderboardService shortsLeaderboardService,
+                                  ShortsViewCountBulkRepository bulkRepository, ViewDedupeStrategy dedupeStrategy, ViewCountBuffer viewCountBuffer,
+                                  RecentViewerCache recentViewerCache,
+                                  PlatformTransactionManager transactionManager, SchedulerFenceGuard schedulerFenceGuard,
+                                  @Value("${shorts.view.script-ingest:true}") boolean scriptIngest,
+                                  @Value("${shorts.view.buffer.enabled:true}") boolean bufferEnabled,
+                                  @Value("${shorts.view.flush-chunk-size:500}") int flushChunkSize) {
         this.viewCountRepository = viewCountRepository;
         this.shortsRepository = shortsRepository;
+        this.shortsTrendingService = shortsTrendingService;
+        this.shortsLeaderboardService = shortsLeaderboardService;
+        this.bulkRepository = bulkRepository;
+        this.dedupeStrategy = dedupeStrategy;
+        this.viewCountBuffer = viewCountBuffer;
+        this.recentViewerCache = recentViewerCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerFenceGuard = schedulerFenceGuard;
+        this.scriptIngest = scriptIngest;
+        this.bufferEnabled = bufferEnabled;
+        this.flushChunkSize = flushChunkSize;
     }
 
-    // 조회수 증가 처리
+    /**
+     * 조회수 증가 처리
+     * - 기본: Lua 스크립트로 중복 확인/증가를 1 왕복에 처리 (shorts.view.script-ingest=true)
+     *   중복 판정 방식은 shorts.view.dedupe.mode (ViewDedupeConfig)
+     *   shorts.view.buffer.enabled=true(기본)이면 스크립트는 중복 판정만 하고, 증가분은 ViewCountBuffer가 모아서 반영한다.
+     *   이때 최근(기본 60초) 판정한 (숏츠, 방문자)는 RecentViewerCache로 걸러 스크립트를 보내지 않는다.
+     *   → 처음 보는 (숏츠, 방문자)는 여전히 조회마다 EVALSHA 1회 (판정 자체를 묶지는 않음)
+     * - false: 기존 순차 호출 (방문자 키 방식 고정, SET NX → HINCRBY, 새 조회당 2 왕복)
+     */
     @Transactional
     public void increaseViewCount(Long shortId, String visitorId) {
         if (shortId == null || shortId <= 0) {
@@ -35,24 +92,164 @@ public class ShortsViewCountService {
             throw new BaseException(ErrorCode.INVALID_INPUT, "visitorId: 값이 올바르지 않습니다.");
         }
 
+        if (scriptIngest && bufferEnabled) {
+            if (recentViewerCache.isRecent(shortId, visitorId)) {
+                return;
+            }
+            viewCountBuffer.add(shortId, viewCountRepository.checkUniqueView(shortId, visitorId, dedupeStrategy));
+            recentViewerCache.mark(shortId, visitorId);
+            return;
+        }
+        if (scriptIngest) {
+            viewCountRepository.recordUniqueView(shortId, visitorId, dedupeStrategy);
+            return;
+        }
+
         boolean isNewView = viewCountRepository.markUniqueView(shortId, visitorId, UNIQUE_TTL);
         if (isNewView) {
             viewCountRepository.increaseViewCount(shortId);
         }
     }
 
-    // Redis 누적 조회수 DB 반영
-    @Transactional
+    /**
+     * Redis 누적 조회수 DB 반영
+     * 1. HSCAN으로 누적 조회수를 청크(shorts.view.flush-chunk-size) 단위로 읽는다.
+     * 2. 청크마다 단일 UPDATE(CASE WHEN)로 반영하고 청크 단위로 커밋한다.
+     *    실패한 청크는 건별로 다시 시도해, 문제 있는 행만 다음 주기로 넘긴다.
+     * 3. 커밋된 만큼만 Redis 카운터에서 차감한다. (읽은 뒤 들어온 증가분은 남는다)
+     * 4. 반영된 숏츠는 트렌딩 재계산 대상으로 표시하고, 증가분은 리더보드에 반영한다.
+     * - 이번 주기에 이미 반영한 id가 HSCAN에서 다시 나오면 건너뛴다. (다음 주기에 반영)
+     * [정산]
+     * - DB 반영과 Redis 차감(settle)을 같은 트랜잭션 안에서 처리하고, 커밋하지 못하면 차감을 되돌린다. → 중복 반영 없음
+     * - 차감 후 커밋 전에 프로세스가 죽으면 그 청크만큼 적게 집계된다. (중복 대신 유실 쪽을 택함)
+     */
     public void flushViewCounts() {
-        Map<Long, Long> counts = viewCountRepository.findPendingViewCounts();
-        if (counts.isEmpty()) {
+        flushViewCounts(null);
+    }
+
+    /**
+     * 스케줄러 락을 쥔 동안만 반영한다. 청크마다 임대를 확인해, 잃었으면 남은 청크는 다음 리더에게 넘긴다.
+     * [펜싱]
+     * 1. 읽기 전에 펜싱 토큰을 DB(scheduler_fence)에 먼저 기록한다. → 이후 오래된 리더의 쓰기 트랜잭션은 모두 롤백된다.
+     *    오래된 리더의 트랜잭션이 진행 중이면 그 커밋(차감 포함)을 기다린 뒤 기록되므로, 이미 반영된 조회수를 다시 읽지 않는다.
+     * 2. 청크마다 같은 트랜잭션 안에서 토큰을 다시 확인한다. (GC 정지 등으로 임대를 잃은 사이 새 리더가 기록했으면 롤백)
+     *
+     * @param lease 스케줄러 락 임대 (null이면 임대 확인/펜싱 없이 반영)
+     */
+    public void flushViewCounts(SchedulerLock.Lease lease) {
+        if (lease != null && !claimFence(lease)) {
+            log.warn("새 리더가 있어 조회수 반영을 건너뜁니다. fencingToken={}", lease.fencingToken());
             return;
         }
+        Set<Long> flushedIds = new HashSet<>();
+        Map<Long, Long> chunk = new HashMap<>();
+        try (Cursor<Map.Entry<String, String>> cursor = viewCountRepository.scanPendingViewCounts(flushChunkSize)) {
+            while (cursor.hasNext()) {
+                Map.Entry<String, String> entry = cursor.next();
+                Long shortsId = Long.valueOf(entry.getKey());
+                long count = Long.parseLong(entry.getValue());
+                if (count <= 0 || flushedIds.contains(shortsId)) {
+                    continue;
+                }
+                chunk.put(shortsId, count);
+                if (chunk.size() >= flushChunkSize) {
+                    if (lease != null && !lease.isHeld()) {
+                        log.warn("스케줄러 락을 잃어 조회수 반영을 중단합니다.");
+                        return;
+                    }
+                    flushedIds.addAll(chunk.keySet());
+                    if (!flushChunk(chunk, lease)) {
+                        return;
+                    }
+                    chunk = new HashMap<>();
+                }
+            }
+        }
+        if (!chunk.isEmpty() && (lease == null || lease.isHeld())) {
+            flushChunk(chunk, lease);
+        }
+    }
 
-        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
-            shortsRepository.updateViewCount(entry.getKey(), entry.getValue());
+    private boolean claimFence(SchedulerLock.Lease lease) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> schedulerFenceGuard.tryAdvance(lease)));
+    }
+
+    // 반영을 계속해도 되면 true, 더 새 리더가 있어 이번 주기를 중단해야 하면 false
+    private boolean flushChunk(Map<Long, Long> chunk, SchedulerLock.Lease lease) {
+        Map<Long, Long> written;
+        try {
+            written = writeChunk(chunk, lease);
+        } catch (FencedOutException e) {
+            log.warn("새 리더가 있어 조회수 반영을 중단합니다. fencingToken={}", lease.fencingToken());
+            return false;
+        }
+        if (written.isEmpty()) {
+            return true;
         }
-        viewCountRepository.clearPending(counts.keySet());
+
+        // 조회수가 바뀐 숏츠는 트렌딩 점수 재계산 대상, 증가분은 리더보드에 반영
+        shortsTrendingService.markDirty(written.keySet());
+        shortsLeaderboardService.incrementViews(written);
+        return true;
+    }
+
+    private Map<Long, Long> writeChunk(Map<Long, Long> chunk, SchedulerLock.Lease lease) {
+        try {
+            writeAndSettle(chunk, lease, () -> bulkRepository.addViewCounts(chunk));
+            return chunk;
+        } catch (FencedOutException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("조회수 청크 반영 실패 - 건별로 재시도합니다. size={}", chunk.size(), e);
+        }
+
+        Map<Long, Long> written = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : chunk.entrySet()) {
+            try {
+                writeAndSettle(Map.of(entry.getKey(), entry.getValue()), lease,
+                        () -> shortsRepository.updateViewCount(entry.getKey(), entry.getValue()));
+                written.put(entry.getKey(), entry.getValue());
+            } catch (FencedOutException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패 - 다음 주기에 재시도합니다. shortsId={}", entry.getKey(), e);
+            }
+        }
+        return written;
     }
-}
 
+    /**
+     * 한 트랜잭션 안에서 펜싱 토큰 확인 → DB 반영 → Redis 차감(settle) 순으로 처리한다.
+     * - 차감을 커밋 전에 해서, 커밋된 조회수가 다음 리더의 HSCAN에 다시 잡히는 틈을 없앤다.
+     * - 커밋하지 못하면(롤백) 차감한 만큼 카운터에 되돌린다.
+     */
+    private void writeAndSettle(Map<Long, Long> counts, SchedulerLock.Lease lease, Runnable dbWrite) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (lease != null && !schedulerFenceGuard.tryAdvance(lease)) {
+                throw new FencedOutException();
+            }
+            dbWrite.run();
+            viewCountRepository.settle(counts);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    if (completionStatus != STATUS_COMMITTED) {
+                        restore(counts);
+                    }
+                }
+            });
+        });
+    }
+
+    private void restore(Map<Long, Long> counts) {
+        try {
+            viewCountRepository.increaseViewCounts(counts);
+        } catch (DataAccessException e) {
+            log.error("조회수 차감 되돌리기 실패 - 반영되지 않은 조회수가 유실됩니다. counts={}", counts, e);
+        }
+    }
+
+    // 더 새 펜싱 토큰이 DB에 기록되어 있음 (트랜잭션 롤백용)
+    private static final class FencedOutException extends RuntimeException {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.shortudy.domain.upload.entity;
 
+import com.example.shortudy.global.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 public class ShortsUploadSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column
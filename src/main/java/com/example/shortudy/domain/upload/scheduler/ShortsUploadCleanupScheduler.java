@@ -1,12 +1,14 @@
 package com.example.shortudy.domain.upload.scheduler;
 
 import com.example.shortudy.domain.upload.service.ShortsUploadCleanupService;
+import com.example.shortudy.global.lock.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Component
@@ -14,18 +16,28 @@ public class ShortsUploadCleanupScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(ShortsUploadCleanupScheduler.class);
 
+    private static final String LOCK_NAME = "shorts:upload:cleanup";
+    // 인스턴스 간 시계 오차로 조금 늦게 실행되는 인스턴스가 다시 정리하지 않도록 락을 유지할 시간
+    private static final Duration LOCK_MIN_HOLD = Duration.ofMinutes(10);
+
     private final ShortsUploadCleanupService shortsUploadCleanupService;
+    private final SchedulerLock schedulerLock;
 
     @Value("${shorts.upload.cleanup.retention-days:7}")
     private int retentionDays;
 
-    public ShortsUploadCleanupScheduler(ShortsUploadCleanupService shortsUploadCleanupService) {
+    public ShortsUploadCleanupScheduler(ShortsUploadCleanupService shortsUploadCleanupService, SchedulerLock schedulerLock) {
         this.shortsUploadCleanupService = shortsUploadCleanupService;
+        this.schedulerLock = schedulerLock;
     }
 
-    // 하루 1회, retentionDays(기본 7일) 이상 지난 미완료(INITIATED/INV) 업로드 세션을 정리한다.
+    // 하루 1회, retentionDays(기본 7일) 이상 지난 미완료(INITIATED/INV) 업로드 세션을 정리한다. (락을 얻은 인스턴스 한 곳에서만)
     @Scheduled(cron = "${shorts.upload.cleanup.cron:0 0 4 * * *}", zone = "Asia/Seoul")
     public void cleanupStaleUploads() {
+        schedulerLock.runExclusively(LOCK_NAME, LOCK_MIN_HOLD, lease -> cleanup());
+    }
+
+    private void cleanup() {
         LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
         int deletedCount = shortsUploadCleanupService.cleanupStaleInitiatedSessions(threshold);
 
@@ -4,6 +4,7 @@ import com.example.shortudy.domain.category.entity.Category;
 import com.example.shortudy.domain.category.repository.CategoryRepository;
 import com.example.shortudy.domain.keyword.service.KeywordService;
 import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.event.ShortsDraftSavedEvent;
 import com.example.shortudy.domain.shorts.service.ShortsService;
 import com.example.shortudy.domain.upload.dto.ShortsUploadInitRequest;
 import com.example.shortudy.domain.upload.dto.ShortsUploadInitResponse;
@@ -14,9 +15,11 @@ import com.example.shortudy.domain.upload.entity.ShortsUploadSession.UploadStatu
 import com.example.shortudy.domain.upload.repository.ShortsUploadSessionRepository;
 import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.domain.user.repository.UserRepository;
+import com.example.shortudy.domain.user.repository.UserSummaryRepository;
 import com.example.shortudy.global.config.S3Service;
 import com.example.shortudy.domain.user.dto.request.PresignedUrlResponse;
 import com.example.shortudy.global.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.shortudy.global.error.BaseException;
@@ -37,29 +40,35 @@ public class ShortsUploadInitService {
 
 
     private final UserRepository userRepository;
+    private final UserSummaryRepository userSummaryRepository;
     private final CategoryRepository categoryRepository;
     private final ShortsRepository shortsRepository;
     private final ShortsUploadSessionRepository uploadSessionRepository;
     private final ShortsService shortsService;
     private final KeywordService keywordService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ShortsUploadInitService(
             UserRepository userRepository,
+            UserSummaryRepository userSummaryRepository,
             CategoryRepository categoryRepository,
             ShortsRepository shortsRepository,
             ShortsUploadSessionRepository uploadSessionRepository,
             ShortsService shortsService,
             KeywordService keywordService,
-            S3Service s3Service
+            S3Service s3Service,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.userRepository = userRepository;
+        this.userSummaryRepository = userSummaryRepository;
         this.categoryRepository = categoryRepository;
         this.shortsRepository = shortsRepository;
         this.uploadSessionRepository = uploadSessionRepository;
         this.shortsService = shortsService;
         this.keywordService = keywordService;
         this.s3Service = s3Service;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -67,8 +76,10 @@ public class ShortsUploadInitService {
         validateFile(body.fileName(), body.fileSize(), body.contentType());
         validateThumbnail(body);
 
-        User user = userRepository.findById(userId)
+        // 사용자 존재 확인은 요약 2차 캐시로, 연관관계에는 프록시 참조만 사용 (users SELECT 생략)
+        userSummaryRepository.findById(userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+        User user = userRepository.getReferenceById(userId);
 
         // 같은 사용자의 기존 미완료 업로드는 재시도 시점에 즉시 정리한다.
         cleanupPreviousInitiatedUploads(userId);
@@ -90,13 +101,14 @@ public class ShortsUploadInitService {
 
         // 키워드 저장
         if (body.keywords() != null) {
-            body.keywords().forEach(k -> shorts.addKeyword(keywordService.getValidKeyword(k)));
+            keywordService.resolveKeywords(body.keywords()).forEach(shorts::addKeyword);
         }
 
 
         Shorts savedShorts = shortsRepository.save(shorts);
 
         Long shortId = savedShorts.getId();
+        eventPublisher.publishEvent(new ShortsDraftSavedEvent(shortId));
         String uploadId = "upload-" + UUID.randomUUID();
 
         // 1. 비디오 Presigned URL 발급 (글로벌 S3Service 활용)
@@ -0,0 +1,42 @@
+package com.example.shortudy.domain.user.entity;
+
+import com.example.shortudy.global.cache.HibernateCacheConfig;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * 사용자 요약 (읽기 전용)
+ * - users 테이블에서 표시/존재 확인에 필요한 컬럼만 읽고, 2차 캐시(user-summary 리전)에 보관한다.
+ * - 비밀번호 등 민감 정보는 포함하지 않는다.
+ * - 프로필 변경/탈퇴 시 UserProfileChangedEvent로 캐시가 무효화된다.
+ */
+@Getter
+@Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.USER_SUMMARY_REGION)
+@Subselect("SELECT u.id, u.nickname, u.profile_url FROM users u")
+@Synchronize("users")
+public class UserSummary {
+
+    @Id
+    private Long id;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    // 전체 url이 아닌 profile image key 값
+    @Column(name = "profile_url")
+    private String profileUrl;
+
+    protected UserSummary() {
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.shortudy.domain.user.event;
+
+/**
+ * 사용자 프로필(닉네임/프로필 이미지) 변경 또는 탈퇴 이벤트
+ * - 커밋 이후 사용자 요약(UserSummary) 캐시 무효화에 사용한다.
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
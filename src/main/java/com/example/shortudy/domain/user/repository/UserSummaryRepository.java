@@ -0,0 +1,14 @@
+package com.example.shortudy.domain.user.repository;
+
+import com.example.shortudy.domain.user.entity.UserSummary;
+import org.springframework.data.repository.Repository;
+
+import java.util.Optional;
+
+/**
+ * 사용자 요약 조회 (읽기 전용, findById는 2차 캐시를 먼저 확인)
+ */
+public interface UserSummaryRepository extends Repository<UserSummary, Long> {
+
+    Optional<UserSummary> findById(Long id);
+}
@@ -9,8 +9,10 @@ import com.example.shortudy.domain.user.entity.User;
 import com.example.shortudy.domain.user.entity.UserRole;
 import com.example.shortudy.domain.like.repository.ShortsLikeRepository;
 import com.example.shortudy.domain.user.repository.UserRepository;
+import com.example.shortudy.domain.user.event.UserProfileChangedEvent;
 import com.example.shortudy.global.config.S3Service;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import com.example.shortudy.global.error.BaseException;
@@ -28,15 +30,18 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
     private final ShortsLikeRepository shortsLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        S3Service s3Service,
-                       ShortsLikeRepository shortsLikeRepository) {
+                       ShortsLikeRepository shortsLikeRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.s3Service = s3Service;
         this.shortsLikeRepository = shortsLikeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -73,6 +78,8 @@ public class UserService {
         if (request.nickName() != null) {
             user.changeNickname(request.nickName());
             changed = true;
+            // 커밋 이후 사용자 요약 캐시 무효화
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         }
 
         if (!changed) throw new BaseException(ErrorCode.INVALID_INPUT);
@@ -144,6 +151,7 @@ public class UserService {
         // 3. DB를 먼저 새로운 경로로 업데이트
         // [트랜잭션] 에러가 나면 아래의 삭제 로직은 실행되지 않음
         user.changeProfileUrl(newImageKey);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
 
         // 4. 기존 사진이 있었다면 S3에서 제거
         // 파일 삭제는 실패하더라도 유저의 프로필 변경(DB) 자체가 취소되지 않게 처리
@@ -185,6 +193,7 @@ public class UserService {
             shortsLikeRepository.hardDeleteAllByUserId(userId);
             userRepository.delete(user);
             userRepository.flush();
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         } catch (DataIntegrityViolationException e) {
             throw new BaseException(ErrorCode.UserDeleteNotAllowedException);
         }
@@ -0,0 +1,86 @@
+package com.example.shortudy.global.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시(L2) / 쿼리 캐시 설정
+ * [대상]
+ * - category, keyword: 거의 바뀌지 않는 작은 테이블 (업로드/수정/키워드 검증 때마다 PK/이름 조회)
+ * - user-summary: 사용자 요약(id, nickname, profileUrl) - 존재 확인/표시용
+ * - 쿼리 캐시: 카테고리 전체 목록, 키워드 normalizedName 조회
+ * [리전 구성]
+ * - 리전마다 최대 크기와 TTL을 둔 Caffeine JCache 캐시를 미리 만들어 Hibernate에 넘긴다.
+ * - update-timestamps 리전은 쿼리 캐시 무효화 기준이므로 만료시키지 않는다.
+ * [무효화]
+ * - 엔티티를 통한 쓰기는 Hibernate가 캐시를 갱신하고, 관리자 쓰기는 커밋 이후 HibernateCacheEvictor가 명시적으로 비운다.
+ * [메트릭]
+ * - hibernate.generate_statistics를 켜서 hibernate.second.level.cache.requests{region, result} 등을 Micrometer로 노출한다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String CATEGORY_REGION = "category";
+    public static final String KEYWORD_REGION = "keyword";
+    public static final String USER_SUMMARY_REGION = "user-summary";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jpa.cache.entity-ttl-ms:3600000}") long entityTtlMs,
+            @Value("${jpa.cache.user-summary-ttl-ms:600000}") long userSummaryTtlMs,
+            @Value("${jpa.cache.user-summary-max-size:100000}") long userSummaryMaxSize,
+            @Value("${jpa.cache.query-ttl-ms:600000}") long queryTtlMs
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shortudy-hibernate"), getClass().getClassLoader());
+
+        createIfAbsent(cacheManager, CATEGORY_REGION, region(1_000, entityTtlMs));
+        createIfAbsent(cacheManager, KEYWORD_REGION, region(10_000, entityTtlMs));
+        createIfAbsent(cacheManager, USER_SUMMARY_REGION, region(userSummaryMaxSize, userSummaryTtlMs));
+        createIfAbsent(cacheManager, QUERY_RESULTS_REGION, region(1_000, queryTtlMs));
+        createIfAbsent(cacheManager, UPDATE_TIMESTAMPS_REGION, region(1_000, 0));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    // 같은 JVM에서 컨텍스트가 다시 뜨는 경우(devtools 재시작 등) 이미 만든 리전은 그대로 사용한다.
+    private static void createIfAbsent(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttlMs > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMillis(ttlMs).toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.shortudy.global.cache;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.category.event.CategoryChangedEvent;
+import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.keyword.event.KeywordChangedEvent;
+import com.example.shortudy.domain.user.entity.UserSummary;
+import com.example.shortudy.domain.user.event.UserProfileChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 2차 캐시 명시적 무효화
+ * - 관리자 쓰기(카테고리/키워드)와 프로필 변경이 커밋된 뒤 해당 엔티티와 쿼리 캐시를 비운다.
+ * - 커밋 이후에 비우므로, 커밋 전 다른 트랜잭션이 옛 값을 다시 채워 넣는 경우가 없다.
+ * [다른 인스턴스]
+ * - 2차 캐시는 인스턴스 로컬(Caffeine)이므로, 키워드/사용자 무효화는 Redis 채널로 알려 다른 인스턴스도 비우게 한다.
+ *   (카테고리는 CategorySnapshotCache의 버전 알림으로 비운다.)
+ * - 알림이 유실되면 리전 TTL이 지나야 반영된다.
+ */
+@Component
+public class HibernateCacheEvictor {
+
+    private static final Logger log = LoggerFactory.getLogger(HibernateCacheEvictor.class);
+
+    public static final String CHANNEL = "l2:evict";
+    private static final String KEYWORD_PREFIX = "keyword:";
+    private static final String USER_SUMMARY_PREFIX = "user:";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    public HibernateCacheEvictor(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        evictCategories();
+        log.debug("[L2] 카테고리 캐시 무효화 - categoryId={}", event.categoryId());
+    }
+
+    /**
+     * 카테고리 리전과 쿼리 캐시를 비운다. (다른 인스턴스의 카테고리 변경 알림 수신 시에도 사용)
+     * - 카테고리는 작고 목록 쿼리 캐시와 함께 쓰이므로 리전 전체를 비운다.
+     */
+    public void evictCategories() {
+        entityManagerFactory.getCache().evict(Category.class);
+        evictQueryResults();
+    }
+
+    @TransactionalEventListener
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        evictKeyword(event.keywordId());
+        publish(KEYWORD_PREFIX + event.keywordId());
+        log.debug("[L2] 키워드 캐시 무효화 - keywordId={}", event.keywordId());
+    }
+
+    @TransactionalEventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evictUserSummary(event.userId());
+        publish(USER_SUMMARY_PREFIX + event.userId());
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 알림 수신 (RedisSubscriptionStarter에서 연결)
+     * - 자기 자신이 보낸 알림도 수신하지만, 같은 항목을 한 번 더 비울 뿐이다.
+     */
+    public void onRemoteEvict(String message) {
+        try {
+            if (message.startsWith(KEYWORD_PREFIX)) {
+                evictKeyword(Long.parseLong(message.substring(KEYWORD_PREFIX.length())));
+            } else if (message.startsWith(USER_SUMMARY_PREFIX)) {
+                evictUserSummary(Long.parseLong(message.substring(USER_SUMMARY_PREFIX.length())));
+            } else {
+                log.warn("[L2] 알 수 없는 무효화 알림 - message={}", message);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[L2] 잘못된 무효화 알림 - message={}", message);
+        }
+    }
+
+    private void evictKeyword(Long keywordId) {
+        entityManagerFactory.getCache().evict(Keyword.class, keywordId);
+        evictQueryResults();
+    }
+
+    private void evictUserSummary(Long userId) {
+        entityManagerFactory.getCache().evict(UserSummary.class, userId);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("[L2] 무효화 알림 실패 - message={}", message, e);
+        }
+    }
+
+    private void evictQueryResults() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
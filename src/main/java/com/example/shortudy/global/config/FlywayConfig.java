@@ -0,0 +1,60 @@
+package com.example.shortudy.global.config;
+
+import org.flywaydb.core.api.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * 버전 관리 스키마 마이그레이션(Flyway) 설정
+ * [마이그레이션 위치]
+ * - db/vendor/{vendor} (예: db/vendor/mysql)
+ * - Flyway는 위치를 하위 디렉터리까지 스캔하므로 기본 위치(db/migration) 아래에 두지 않는다.
+ * - 마이그레이션 SQL은 MySQL 문법이므로, H2로 뜨는 테스트에서는 실행되지 않고 Hibernate 스키마를 그대로 사용한다.
+ * [기존 DB]
+ * - 마이그레이션 도입 이전에 Hibernate가 만든 스키마는 V1(baseline)으로 간주하고 V2부터 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
+    private static final String DEFAULT_LOCATION = "classpath:db/migration";
+    private static final String VENDOR_LOCATION_PREFIX = "classpath:db/vendor/";
+    private static final String BASELINE_VERSION = "1";
+
+    @Bean
+    public FlywayConfigurationCustomizer vendorMigrationCustomizer() {
+        return configuration -> {
+            configuration.baselineOnMigrate(true).baselineVersion(BASELINE_VERSION);
+
+            // spring.flyway.locations를 따로 지정한 경우에는 그 값을 존중한다.
+            boolean defaultLocation = Arrays.stream(configuration.getLocations())
+                    .map(Location::getDescriptor)
+                    .allMatch(DEFAULT_LOCATION::equals);
+            if (!defaultLocation) {
+                return;
+            }
+
+            String vendor = resolveVendor(configuration.getDataSource());
+            configuration.locations(VENDOR_LOCATION_PREFIX + vendor);
+            log.info("[Flyway] 마이그레이션 위치: {}{}", VENDOR_LOCATION_PREFIX, vendor);
+        };
+    }
+
+    private String resolveVendor(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return DatabaseDriver.fromJdbcUrl(connection.getMetaData().getURL()).getId();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Flyway 마이그레이션 대상 DB를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.shortudy.global.config;
+
+import com.example.shortudy.domain.category.query.CategorySnapshotCache;
+import com.example.shortudy.global.cache.HibernateCacheEvictor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis Pub/Sub 구독 관리
+ * - 인스턴스 간 로컬 캐시 갱신 알림을 받는다. (카테고리 스냅샷, 키워드/사용자 2차 캐시 무효화)
+ * - 리스너 컨테이너를 스프링 빈으로 두면 기동 시 구독 실패가 애플리케이션 기동 실패로 이어지므로,
+ *   컨테이너를 직접 들고 기동 후 주기적으로 구독을 시작/재시도한다.
+ * - 구독이 끊긴 동안 놓친 알림은 각 캐시의 주기 버전 확인으로 보정한다.
+ */
+@Component
+public class RedisSubscriptionStarter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSubscriptionStarter.class);
+
+    private final RedisMessageListenerContainer container;
+
+    public RedisSubscriptionStarter(RedisConnectionFactory connectionFactory,
+                                    CategorySnapshotCache categorySnapshotCache,
+                                    HibernateCacheEvictor hibernateCacheEvictor) {
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> categorySnapshotCache.onRemoteChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CategorySnapshotCache.CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> hibernateCacheEvictor.onRemoteEvict(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(HibernateCacheEvictor.CHANNEL));
+        container.afterPropertiesSet();
+    }
+
+    @Scheduled(fixedDelayString = "${redis.subscription.retry-interval-ms:30000}")
+    public void ensureSubscribed() {
+        if (container.isRunning()) {
+            return;
+        }
+        try {
+            container.start();
+            log.info("Redis Pub/Sub 구독 시작");
+        } catch (RuntimeException e) {
+            container.stop();
+            log.warn("Redis Pub/Sub 구독 실패 - 다음 주기에 재시도합니다. cause={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        container.destroy();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.shortudy.global.datasource;
+
+import com.example.shortudy.global.security.principal.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ * - datasource.routing.enabled=true 일 때만 활성화된다.
+ * [구성]
+ * - primaryDataSource: spring.datasource.* / spring.datasource.hikari.* 설정 그대로
+ * - replica 풀: datasource.routing.replicas[n].*
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy(ReplicationRoutingDataSource)
+ * [설정 예시]
+ * datasource.routing.enabled=true
+ * datasource.routing.strategy=LEAST_CONNECTIONS
+ * datasource.routing.replicas[0].url=jdbc:mysql://replica-1:3306/shortudy
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaSelector replicaSelector(DataSourceRoutingProperties properties, DataSourceProperties primary) {
+        List<ReplicaSelector.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+            dataSource.setDriverClassName(primary.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(new ReplicaSelector.Replica("replica-" + i, dataSource));
+        }
+        return new ReplicaSelector(replicas, properties.getStrategy());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesMs());
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaSelector replicaSelector, DataSourceRoutingProperties properties) {
+        return new ReplicaLagMonitor(replicaSelector, properties.getLagQuery(), properties.getMaxLagSeconds());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaSelector replicaSelector,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                replicaSelector, readYourWritesTracker, DataSourceRoutingConfig::currentUserId);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicationRoutingDataSource.PRIMARY_KEY, primaryDataSource);
+        replicaSelector.getReplicas().forEach(replica -> targets.put(replica.getKey(), replica.getDataSource()));
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.shortudy.global.datasource;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (datasource.routing.*)
+ * - enabled=false(기본)이면 기존처럼 spring.datasource 하나만 사용한다.
+ * - primary는 spring.datasource.* 설정을 그대로 사용하고, replicas만 여기서 추가로 지정한다.
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+    private ReplicaSelector.Strategy strategy = ReplicaSelector.Strategy.ROUND_ROBIN;
+    // 이 값(초)보다 복제 지연이 크면 해당 replica는 라우팅 대상에서 제외
+    private long maxLagSeconds = 3;
+    // 본인 쓰기 이후 이 시간(ms) 동안은 읽기 전용 트랜잭션도 primary로 보낸다 (read-your-writes)
+    private long readYourWritesMs = 3000;
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private final List<Replica> replicas = new ArrayList<>();
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setStrategy(ReplicaSelector.Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public void setMaxLagSeconds(long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public void setReadYourWritesMs(long readYourWritesMs) {
+        this.readYourWritesMs = readYourWritesMs;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    @Getter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.shortudy.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 보장을 위한 사용자별 최근 쓰기 기록
+ * - 쓰기 트랜잭션 커밋 시 사용자를 기록하고, window 동안은 그 사용자의 읽기도 primary로 보낸다.
+ * - 복제 지연 때문에 방금 올린 숏츠가 내 목록(getMyShorts)에 안 보이는 문제를 막는다.
+ * [참고] 인스턴스 로컬 기록이므로 같은 사용자의 다음 요청이 다른 인스턴스로 가면 보장되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
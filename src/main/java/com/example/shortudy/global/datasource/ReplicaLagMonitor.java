@@ -0,0 +1,71 @@
+package com.example.shortudy.global.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * replica 복제 지연 감시
+ * [동작 방식]
+ * 1. 주기적으로 각 replica에 lag-query(기본 SHOW REPLICA STATUS)를 실행한다.
+ * 2. Seconds_Behind_Source(구버전 Seconds_Behind_Master)가 max-lag-seconds 이하이면 정상으로 표시한다.
+ * 3. 복제가 멈춰 값이 NULL이거나, 조회 자체가 실패하면 unhealthy로 표시해 primary로 우회시킨다.
+ * - 결과 행이 없으면(복제 설정이 없는 로컬 DB 등) 지연 0으로 본다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReplicaSelector replicaSelector;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaSelector replicaSelector, String lagQuery, long maxLagSeconds) {
+        this.replicaSelector = replicaSelector;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        for (ReplicaSelector.Replica replica : replicaSelector.getReplicas()) {
+            boolean healthy = isHealthy(replica);
+            if (healthy != replica.isHealthy()) {
+                log.warn("[DataSource] replica 상태 변경 - key={}, healthy={}", replica.getKey(), healthy);
+            }
+            replica.markHealthy(healthy);
+        }
+    }
+
+    private boolean isHealthy(ReplicaSelector.Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return true;
+            }
+            Long lag = readLag(rs);
+            return lag != null && lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            log.warn("[DataSource] replica 지연 조회 실패 - key={}", replica.getKey(), e);
+            return false;
+        }
+    }
+
+    private Long readLag(ResultSet rs) throws SQLException {
+        for (String column : new String[]{"Seconds_Behind_Source", "Seconds_Behind_Master"}) {
+            try {
+                long lag = rs.getLong(column);
+                return rs.wasNull() ? null : lag;
+            } catch (SQLException ignored) {
+                // 버전에 따라 컬럼명이 다르다
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.shortudy.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 replica 선택
+ * [선택 전략]
+ * - ROUND_ROBIN: 정상 replica를 순서대로 돌아가며 선택
+ * - LEAST_CONNECTIONS: Hikari 풀의 활성 커넥션 수가 가장 적은 replica 선택
+ * [장애/지연 처리]
+ * - ReplicaLagMonitor가 복제 지연이 크거나 상태 확인에 실패한 replica를 unhealthy로 표시한다.
+ * - 정상 replica가 하나도 없으면 empty를 반환하고, 호출측은 primary로 보낸다.
+ */
+public class ReplicaSelector implements AutoCloseable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaSelector(List<Replica> replicas, Strategy strategy) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+    }
+
+    public Optional<Replica> select() {
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return switch (strategy) {
+            case ROUND_ROBIN -> Optional.of(healthy.get(Math.floorMod(cursor.getAndIncrement(), healthy.size())));
+            case LEAST_CONNECTIONS -> healthy.stream().min(Comparator.comparingInt(Replica::activeConnections));
+        };
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+
+    /**
+     * replica 하나 (라우팅 키 + 커넥션 풀 + 상태)
+     */
+    public static class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public void markHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
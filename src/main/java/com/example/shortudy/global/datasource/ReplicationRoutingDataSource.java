@@ -0,0 +1,77 @@
+package com.example.shortudy.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 readOnly 여부로 primary / replica를 고르는 라우팅 DataSource
+ * [라우팅 규칙]
+ * 1. 읽기 전용 트랜잭션 + 현재 사용자가 read-your-writes window 밖이면 replica (선택 실패 시 primary)
+ * 2. 그 외(쓰기 트랜잭션, 트랜잭션 없음, 최근 쓰기 사용자)는 primary
+ * [주의] 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로
+ *        반드시 LazyConnectionDataSourceProxy로 감싸 실제 쿼리 시점에 커넥션을 얻도록 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    // 쓰기 트랜잭션당 afterCommit 콜백을 한 번만 등록하기 위한 리소스 키
+    private static final Object WRITE_MARKER = new Object();
+
+    private final ReplicaSelector replicaSelector;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Supplier<Long> currentUserId;
+
+    public ReplicationRoutingDataSource(ReplicaSelector replicaSelector,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        Supplier<Long> currentUserId) {
+        this.replicaSelector = replicaSelector;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentUserId = currentUserId;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY_KEY;
+        }
+
+        Long userId = currentUserId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker(userId);
+            return PRIMARY_KEY;
+        }
+
+        if (readYourWritesTracker.isWithinWindow(userId)) {
+            return PRIMARY_KEY;
+        }
+
+        return replicaSelector.select()
+                .map(ReplicaSelector.Replica::getKey)
+                .orElse(PRIMARY_KEY);
+    }
+
+    private void registerWriteMarker(Long userId) {
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+}
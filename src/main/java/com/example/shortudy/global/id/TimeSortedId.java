@@ -0,0 +1,19 @@
+package com.example.shortudy.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 정렬 ID 생성 (IDENTITY 대체)
+ * - IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼진다.
+ * - 애플리케이션에서 ID를 미리 만들기 때문에 INSERT가 flush 시점까지 모였다가 배치로 나간다.
+ */
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeSortedId {
+}
@@ -0,0 +1,20 @@
+package com.example.shortudy.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @TimeSortedId 필드에 TimeSortedIds.next()를 할당하는 Hibernate ID 생성기
+ */
+public class TimeSortedIdGenerator implements IdentifierGenerator {
+
+    // SessionFactory 생성 시점에 node id를 검증한다. (설정 오류를 첫 INSERT가 아닌 기동 시점에 드러내도록)
+    public TimeSortedIdGenerator() {
+        TimeSortedIds.nodeId();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeSortedIds.next();
+    }
+}
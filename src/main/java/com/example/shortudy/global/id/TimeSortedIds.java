@@ -0,0 +1,82 @@
+package com.example.shortudy.global.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+
+/**
+ * 53비트 시간 정렬 ID (Snowflake 변형)
+ * [비트 구성] timestamp 41 | node 4 | sequence 8
+ * - timestamp: 2025-01-01T00:00:00Z 기준 경과 밀리초 (약 69년)
+ * - node: 인스턴스 번호 0~15 (ID_NODE_ID 환경변수 또는 id.node-id 시스템 프로퍼티, 필수)
+ * - sequence: 같은 밀리초 안의 순번 0~255 (넘치면 다음 밀리초로 넘어간다)
+ * [53비트인 이유]
+ * - 응답 JSON의 id를 JavaScript number로 다뤄도 정밀도 손실이 없다. (Number.MAX_SAFE_INTEGER = 2^53 - 1)
+ * [정렬]
+ * - 생성 순서(≈ created_at 순서)대로 증가하므로 (created_at, id) 커서 / id 역순 정렬 의미가 유지된다.
+ * - 기존 AUTO_INCREMENT 값보다 항상 크므로 기존 데이터와 섞여도 순서가 깨지지 않는다.
+ * - 시계가 뒤로 가면 마지막 timestamp를 계속 사용해 단조 증가를 보장한다.
+ * [node id]
+ * - node 비트가 4개뿐이라 호스트명 해시 등으로 추정하면 인스턴스 간 충돌(= ID 중복)이 쉽게 난다.
+ * - 설정이 없거나 0~15 범위를 벗어나면 기동 시점에 실패시킨다. (TimeSortedIdGenerator 생성 시 초기화)
+ */
+public final class TimeSortedIds {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeSortedIds.class);
+
+    static final long EPOCH_MS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long NODE_ID = resolveNodeId();
+
+    private static long lastTimestamp = -1L;
+    private static long sequence = 0L;
+
+    private TimeSortedIds() {
+    }
+
+    public static long nodeId() {
+        return NODE_ID;
+    }
+
+    public static synchronized long next() {
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MS, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 같은 밀리초의 순번을 다 썼으면 다음 밀리초로 넘어간다.
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long resolveNodeId() {
+        String configured = System.getProperty("id.node-id", System.getenv("ID_NODE_ID"));
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("[ID] node id가 설정되지 않았습니다. ID_NODE_ID(또는 -Did.node-id)에 인스턴스별 0~" + MAX_NODE + " 값을 지정하세요.");
+        }
+
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("[ID] node id가 숫자가 아닙니다: " + configured, e);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalStateException("[ID] node id는 0~" + MAX_NODE + " 범위여야 합니다: " + nodeId);
+        }
+
+        log.info("[ID] node id: {}", nodeId);
+        return nodeId;
+    }
+}
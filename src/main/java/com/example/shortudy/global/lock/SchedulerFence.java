@@ -0,0 +1,31 @@
+package com.example.shortudy.global.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 작업별 마지막으로 DB에 쓴 펜싱 토큰
+ * - 스케줄러 락(Redis) 임대를 잃은 오래된 리더가 DB에 쓰지 못하도록, 쓰기 트랜잭션 안에서 토큰을 앞으로만 옮긴다.
+ */
+@Entity
+@Table(name = "scheduler_fence")
+@Getter
+public class SchedulerFence {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Long token;
+
+    public SchedulerFence(String name, Long token) {
+        this.name = name;
+        this.token = token;
+    }
+
+    protected SchedulerFence() {}
+}
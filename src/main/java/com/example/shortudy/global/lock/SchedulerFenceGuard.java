@@ -0,0 +1,36 @@
+package com.example.shortudy.global.lock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 쓰기 펜싱
+ * [동작 방식]
+ * 1. 쓰기 트랜잭션 안에서 scheduler_fence 행의 토큰을 임대의 펜싱 토큰으로 옮긴다. (token <= 내 토큰일 때만)
+ * 2. 옮기지 못했으면(더 새 리더가 이미 썼으면) false → 호출자는 트랜잭션을 롤백한다.
+ * 3. 행을 갱신하면서 잡은 잠금이 커밋까지 유지되므로, 두 리더의 쓰기가 겹치지 않고 토큰 순서대로만 반영된다.
+ * - 처음 쓰는 작업은 행이 없으므로 새로 만든다. (동시에 만들면 한쪽은 PK 충돌로 실패해 롤백된다)
+ */
+@Component
+public class SchedulerFenceGuard {
+
+    private final SchedulerFenceRepository schedulerFenceRepository;
+
+    public SchedulerFenceGuard(SchedulerFenceRepository schedulerFenceRepository) {
+        this.schedulerFenceRepository = schedulerFenceRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAdvance(SchedulerLock.Lease lease) {
+        String name = lease.fenceKey();
+        if (schedulerFenceRepository.advance(name, lease.fencingToken()) > 0) {
+            return true;
+        }
+        if (schedulerFenceRepository.existsById(name)) {
+            return false;
+        }
+        schedulerFenceRepository.saveAndFlush(new SchedulerFence(name, lease.fencingToken()));
+        return true;
+    }
+}
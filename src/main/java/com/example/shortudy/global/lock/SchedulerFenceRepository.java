@@ -0,0 +1,17 @@
+package com.example.shortudy.global.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerFenceRepository extends JpaRepository<SchedulerFence, String> {
+
+    /**
+     * 토큰이 같거나 더 새로울 때만 기록한다. (행 잠금은 트랜잭션 끝까지 유지)
+     * @return 기록했으면 1, 더 새 토큰이 이미 있거나 행이 없으면 0
+     */
+    @Modifying
+    @Query("UPDATE SchedulerFence f SET f.token = :token WHERE f.name = :name AND f.token <= :token")
+    int advance(@Param("name") String name, @Param("token") long token);
+}
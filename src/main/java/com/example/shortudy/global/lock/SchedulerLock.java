@@ -0,0 +1,198 @@
+package com.example.shortudy.global.lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis 임대(lease) 기반 스케줄러 락 - 여러 인스턴스 중 한 곳에서만 주기 작업을 실행한다.
+ * [동작 방식]
+ * 1. 획득: SET lock:{name} {인스턴스 id}:{임대 id} NX PX {lease} 성공 시 INCR lock:{name}:fence 로 펜싱 토큰을 받는다. (스크립트 1회)
+ * 2. 갱신: 작업 중에는 lease/3 마다 값이 자기 것일 때만 PEXPIRE 한다. 실패하면 Lease.isHeld()가 false가 된다.
+ *    Redis 오류로 lease 시간 이상 갱신하지 못해도 false가 된다. (그 사이 키가 만료되어 다른 인스턴스가 가져갔을 수 있으므로)
+ * 3. 해제: minHold(주기당 1회 보장용 최소 유지 시간)가 남았으면 남은 만큼만 유지하고, 아니면 값이 자기 것일 때만 DEL 한다.
+ * - 리더가 죽으면 최대 lease 시간 뒤 키가 만료되어, 다음 주기에 다른 인스턴스가 가져간다.
+ * - Redis에 접근할 수 없으면 획득 실패로 보고 이번 주기를 건너뛴다.
+ * [주의]
+ * - 오래 걸리는 작업은 단계마다 Lease.isHeld()를 확인해, 임대를 잃었으면 멈춰야 한다. (GC 정지, 네트워크 단절 등)
+ */
+@Component
+public class SchedulerLock implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLock.class);
+
+    private static final String KEY_PREFIX = "lock:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    // KEYS[1]=락 키, KEYS[2]=펜싱 토큰 키 / ARGV[1]=임대 값, ARGV[2]=임대 시간(ms) → 펜싱 토큰, 실패 시 0
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return redis.call('INCR', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=락 키 / ARGV[1]=임대 값, ARGV[2]=연장 시간(ms)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=락 키 / ARGV[1]=임대 값, ARGV[2]=남은 최소 유지 시간(ms, 0이면 즉시 해제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                if tonumber(ARGV[2]) > 0 then
+                    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                end
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseTime;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLock(StringRedisTemplate redisTemplate,
+                         @Value("${scheduler.lock.lease-ms:30000}") long leaseMs) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTime = Duration.ofMillis(leaseMs);
+    }
+
+    /**
+     * 락을 얻은 경우에만 작업을 실행한다.
+     *
+     * @param name    락 이름 (작업별로 고유)
+     * @param minHold 작업이 일찍 끝나도 락을 유지할 최소 시간 → 다른 인스턴스가 같은 주기에 다시 실행하지 않도록
+     * @param task    임대 정보를 받아 실행할 작업
+     * @return 이 인스턴스에서 실행했으면 true
+     */
+    public boolean runExclusively(String name, Duration minHold, Consumer<Lease> task) {
+        Lease lease = tryAcquire(name);
+        if (lease == null) {
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long renewMs = Math.max(1, leaseTime.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(lease), renewMs, renewMs, TimeUnit.MILLISECONDS);
+        try {
+            task.accept(lease);
+        } finally {
+            renewal.cancel(false);
+            release(lease, minHold.toMillis() - (System.currentTimeMillis() - startedAt));
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        renewer.shutdownNow();
+    }
+
+    private Lease tryAcquire(String name) {
+        String key = KEY_PREFIX + name;
+        String value = instanceId + ":" + UUID.randomUUID();
+        long requestedAt = System.currentTimeMillis();
+        try {
+            Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key, key + FENCE_SUFFIX),
+                    value, String.valueOf(leaseTime.toMillis()));
+            if (token == null || token == 0L) {
+                return null;
+            }
+            return new Lease(key, value, token, requestedAt);
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 락 획득 실패 - 이번 주기를 건너뜁니다. name={}", name, e);
+            return null;
+        }
+    }
+
+    private void renew(Lease lease) {
+        if (!lease.held) {
+            return;
+        }
+        long requestedAt = System.currentTimeMillis();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lease.key), lease.value, String.valueOf(leaseTime.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                lease.held = false;
+                log.warn("스케줄러 락 임대를 잃었습니다. key={}, fencingToken={}", lease.key, lease.fencingToken);
+            } else {
+                lease.renewedAt = requestedAt;
+            }
+        } catch (DataAccessException e) {
+            // 일시 장애일 수 있으므로 다음 갱신에서 다시 시도하되, 마지막 갱신 후 lease 시간이 지났으면 만료된 것으로 본다.
+            if (System.currentTimeMillis() - lease.renewedAt >= leaseTime.toMillis()) {
+                lease.held = false;
+                log.warn("스케줄러 락을 lease 시간 동안 갱신하지 못해 임대를 잃은 것으로 봅니다. key={}, fencingToken={}",
+                        lease.key, lease.fencingToken, e);
+            } else {
+                log.warn("스케줄러 락 갱신 실패 - key={}", lease.key, e);
+            }
+        }
+    }
+
+    private void release(Lease lease, long remainingHoldMs) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lease.key), lease.value, String.valueOf(Math.max(0, remainingHoldMs)));
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 락 해제 실패 - 임대 만료로 풀립니다. key={}", lease.key, e);
+        }
+    }
+
+    /**
+     * 획득한 임대
+     * - fencingToken: 획득마다 단조 증가하는 값 → 외부 자원에 기록해 오래된 리더의 쓰기를 거를 때 사용
+     * - fenceKey: 마지막으로 발급된 토큰이 들어 있는 키 → DB 펜스 행(scheduler_fence)의 이름으로도 쓴다. (SchedulerFenceGuard)
+     */
+    public static final class Lease {
+
+        private final String key;
+        private final String value;
+        private final long fencingToken;
+        private volatile boolean held = true;
+        // 획득 또는 마지막 갱신 성공 시각 (스크립트 호출 직전 시각으로 보수적으로 잡는다)
+        private volatile long renewedAt;
+
+        private Lease(String key, String value, long fencingToken, long acquiredAt) {
+            this.key = key;
+            this.value = value;
+            this.fencingToken = fencingToken;
+            this.renewedAt = acquiredAt;
+        }
+
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        public String fenceKey() {
+            return key + FENCE_SUFFIX;
+        }
+
+        public boolean isHeld() {
+            return held;
+        }
+    }
+}
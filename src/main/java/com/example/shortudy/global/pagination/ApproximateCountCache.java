@@ -0,0 +1,115 @@
+package com.example.shortudy.global.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수 근사값 캐시
+ * [배경]
+ * - Page 조회는 매 요청마다 COUNT 쿼리를 한 번 더 실행한다. 목록은 Slice(size + 1)로만 조회하고, 전체 개수는 여기서 가져온다.
+ * [동작 방식]
+ * 1. 처음 조회하는 키는 동기로 COUNT 후 캐시한다.
+ * 2. refresh-after가 지난 값은 그대로 반환하면서 백그라운드에서 한 번만 다시 COUNT 한다. (stale-while-revalidate)
+ * 3. 오래 조회되지 않은 키는 expire-after 이후 제거된다.
+ * [갱신 스레드]
+ * - 백그라운드 COUNT는 전용 스레드 풀에서 실행한다. (공용 ForkJoinPool에서 DB 커넥션을 기다리지 않도록)
+ * - 큐가 가득 차면 이번 갱신은 건너뛰고 기존 값을 계속 반환한다.
+ */
+@Component
+public class ApproximateCountCache implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ApproximateCountCache.class);
+
+    private final Cache<String, Entry> cache;
+    private final long refreshAfterMs;
+    private final ThreadPoolExecutor refresher;
+
+    public ApproximateCountCache(
+            @Value("${pagination.count-cache.refresh-after-ms:60000}") long refreshAfterMs,
+            @Value("${pagination.count-cache.expire-after-ms:600000}") long expireAfterMs,
+            @Value("${pagination.count-cache.max-size:10000}") long maxSize,
+            @Value("${pagination.count-cache.refresh-threads:2}") int refreshThreads,
+            @Value("${pagination.count-cache.refresh-queue-size:100}") int refreshQueueSize
+    ) {
+        this.refreshAfterMs = refreshAfterMs;
+        this.refresher = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "count-cache-refresher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(expireAfterMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * key에 해당하는 전체 개수 근사값을 반환합니다.
+     */
+    public long get(String key, LongSupplier counter) {
+        Entry entry = cache.get(key, k -> new Entry(counter.getAsLong(), System.currentTimeMillis()));
+        if (System.currentTimeMillis() - entry.loadedAt() >= refreshAfterMs && entry.refreshing().compareAndSet(false, true)) {
+            refreshAsync(key, counter, entry);
+        }
+        return entry.count();
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 요청 모드에 맞게 Slice를 그대로 반환하거나, 근사 전체 개수를 붙인 Page로 변환합니다.
+     * - 근사값이 실제 조회 결과보다 작으면(hasNext 불일치) 조회 결과 기준으로 보정합니다.
+     * - 이미 정확한 전체 개수를 가진 Page(리더보드 등)는 그대로 반환합니다.
+     */
+    public <T> Slice<T> apply(PageMode mode, Slice<T> slice, String key, LongSupplier counter) {
+        if (mode == PageMode.SLICE || slice instanceof Page<T>) {
+            return slice;
+        }
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(get(key, counter), seen);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private void refreshAsync(String key, LongSupplier counter, Entry entry) {
+        try {
+            CompletableFuture.runAsync(() -> cache.put(key, new Entry(counter.getAsLong(), System.currentTimeMillis())), refresher)
+                    .whenComplete((ignored, e) -> {
+                        entry.refreshing().set(false);
+                        if (e != null) {
+                            log.warn("목록 개수 캐시 갱신 실패 - key={}", key, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing().set(false);
+            log.debug("목록 개수 캐시 갱신 대기열 초과, 이번 갱신 생략 - key={}", key);
+        }
+    }
+
+    private record Entry(long count, long loadedAt, AtomicBoolean refreshing) {
+
+        Entry(long count, long loadedAt) {
+            this(count, loadedAt, new AtomicBoolean(false));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.shortudy.global.pagination;
+
+import com.example.shortudy.global.error.BaseException;
+import com.example.shortudy.global.error.ErrorCode;
+
+import java.util.Arrays;
+
+/**
+ * 목록 응답 모드
+ * - page: 기존 Page 응답 (totalElements/totalPages는 캐시된 근사값)
+ * - slice: 무한 스크롤용 Slice 응답 (hasNext만 제공, COUNT 쿼리 없음)
+ */
+public enum PageMode {
+    PAGE("page"),
+    SLICE("slice");
+
+    private final String value;
+
+    PageMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 문자열로 해당하는 enum값 찾기 (없으면 page)
+     * @param value 문자열
+     * @return 해당하는 enum값
+     */
+    public static PageMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return PAGE;
+        }
+        return Arrays.stream(PageMode.values())
+                .filter(v -> v.getValue().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_INPUT, "mode: 값이 올바르지 않습니다."));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.shortudy.domain.category.query;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.category.event.CategoryChangedEvent;
+import com.example.shortudy.domain.category.repository.CategoryRepository;
+import com.example.shortudy.global.cache.HibernateCacheEvictor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CategorySnapshotCache 테스트")
+class CategorySnapshotCacheTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final HibernateCacheEvictor hibernateCacheEvictor = mock(HibernateCacheEvictor.class);
+
+    private CategorySnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("category:snapshot:version")).thenReturn("3");
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "백엔드")));
+        cache = new CategorySnapshotCache(categoryRepository, redisTemplate, hibernateCacheEvictor, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("TC-CS-001: 스냅샷은 한 번만 적재하고, 같거나 낮은 버전의 알림은 무시한다")
+    void shouldLoadOnce_AndIgnoreStaleNotifications() {
+        // when
+        CategorySnapshot first = cache.get();
+        cache.onRemoteChanged("3");
+        cache.onRemoteChanged("2");
+
+        // then
+        assertSame(first, cache.get());
+        assertEquals(3L, first.version());
+        verify(categoryRepository, times(1)).findAll();
+        verify(hibernateCacheEvictor, never()).evictCategories();
+    }
+
+    @Test
+    @DisplayName("TC-CS-002: 로컬 변경은 버전을 올려 알리고, 더 큰 버전 알림을 받으면 2차 캐시를 비운 뒤 다시 적재한다")
+    void shouldBroadcastLocalChange_AndReloadOnNewerVersion() {
+        // given
+        CategorySnapshot before = cache.get();
+        when(valueOperations.increment("category:snapshot:version")).thenReturn(4L);
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "백엔드"), category(2L, "프론트엔드")));
+
+        // when
+        cache.onCategoryChanged(new CategoryChangedEvent(2L));
+        cache.onRemoteChanged("5");
+
+        // then
+        verify(redisTemplate).convertAndSend("category:snapshot:changed", "4");
+        verify(hibernateCacheEvictor, times(1)).evictCategories();
+        assertEquals(5L, cache.get().version());
+        assertEquals(2, cache.get().categories().size());
+        assertNotEquals(before.etag(), cache.get().etag());
+    }
+
+    @Test
+    @DisplayName("TC-CS-003: 버전을 올리지 못해도 스냅샷은 다시 만들되, 버전은 Redis 값을 유지해 이후 변경을 따라잡는다")
+    void shouldKeepRedisVersion_WhenIncrementFails() {
+        // given
+        cache.get();
+        when(valueOperations.increment("category:snapshot:version")).thenThrow(new RedisConnectionFailureException("down"));
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "백엔드"), category(2L, "프론트엔드")));
+
+        // when
+        cache.onCategoryChanged(new CategoryChangedEvent(2L));
+        CategorySnapshot afterFailure = cache.get();
+        when(valueOperations.get("category:snapshot:version")).thenReturn("4");
+        cache.checkVersion();
+
+        // then
+        assertEquals(3L, afterFailure.version());
+        assertEquals(2, afterFailure.categories().size());
+        assertEquals(4L, cache.get().version());
+        verify(categoryRepository, times(3)).findAll();
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category(name);
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.shortudy.domain.keyword.query;
+
+import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.keyword.event.KeywordChangedEvent;
+import com.example.shortudy.domain.keyword.repository.KeywordRepository;
+import com.example.shortudy.domain.keyword.util.KeywordNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("KeywordSearchIndex 테스트")
+class KeywordSearchIndexTest {
+
+    private final KeywordRepository keywordRepository = mock(KeywordRepository.class);
+    private final KeywordSearchIndex index = new KeywordSearchIndex(keywordRepository, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(keywordRepository.findAll()).thenReturn(List.of(
+                keyword(1L, "java"), keyword(2L, "javascript"), keyword(3L, "kotlin"), keyword(4L, "rxjava")));
+        when(keywordRepository.countUsages()).thenReturn(List.of(usage(1L, 5L), usage(2L, 9L), usage(4L, 1L)));
+    }
+
+    @Test
+    @DisplayName("TC-KS-001: 접두사 일치를 사용량 순으로 먼저 반환하고, 부분 일치로 나머지를 채운다")
+    void shouldReturnPrefixMatchesFirst_ThenSubstringMatches() {
+        // when
+        List<KeywordSearchIndex.Entry> result = index.search("jav");
+
+        // then
+        assertEquals(List.of(2L, 1L, 4L), result.stream().map(KeywordSearchIndex.Entry::id).toList());
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("TC-KS-002: limit만큼만 반환하고, 키워드 변경 시 해당 키워드만 다시 읽어 반영한다")
+    void shouldBoundResults_AndApplyChangedKeywordOnly() {
+        // given
+        assertEquals(1, index.search("a", 1).size());
+        Keyword added = keyword(5L, "java-spring");
+        when(keywordRepository.findById(5L)).thenReturn(Optional.of(added));
+
+        // when
+        index.onKeywordChanged(new KeywordChangedEvent(5L));
+
+        // then
+        // 접두사 일치(java-spring)가 오타 허용 일치(javascript, java)보다 앞선다.
+        assertEquals(5L, index.search("java-").get(0).id());
+        verify(keywordRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("TC-KS-003: 입력 중인 낱자, 초성, 자모 한 개 오타로도 한글 키워드를 찾는다")
+    void shouldMatchHangulByJamoPrefix_Choseong_AndTypo() {
+        // given
+        when(keywordRepository.findAll()).thenReturn(List.of(
+                keyword(10L, KeywordNormalizer.normalize("자바")), keyword(11L, KeywordNormalizer.normalize("자료구조"))));
+        when(keywordRepository.countUsages()).thenReturn(List.of());
+
+        // when & then
+        assertEquals(List.of(10L), idsOf(index.search(KeywordNormalizer.normalize("자ㅂ"))));
+        assertEquals(List.of(10L), idsOf(index.search(KeywordNormalizer.normalize("잡"))));
+        assertEquals(List.of(11L), idsOf(index.search(KeywordNormalizer.normalize("ㅈㄹㄱ"))));
+        assertEquals(List.of(10L), idsOf(index.search(KeywordNormalizer.normalize("자버"))));
+    }
+
+    private static List<Long> idsOf(List<KeywordSearchIndex.Entry> entries) {
+        return entries.stream().map(KeywordSearchIndex.Entry::id).toList();
+    }
+
+    private static Keyword keyword(Long id, String name) {
+        Keyword keyword = new Keyword(name, name);
+        ReflectionTestUtils.setField(keyword, "id", id);
+        return keyword;
+    }
+
+    private static KeywordRepository.KeywordUsageProjection usage(Long keywordId, Long usageCount) {
+        return new KeywordRepository.KeywordUsageProjection() {
+            @Override
+            public Long getKeywordId() {
+                return keywordId;
+            }
+
+            @Override
+            public Long getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}
@@ -16,8 +16,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -158,10 +158,10 @@ class ShortsLikeRepositoryTest {
         em.clear();
 
         // when
-        Page<ShortsLike> results = shortsLikeRepository.findAllByUserIdWithDetailsLatest(user.getId(), PageRequest.of(0, 10));
+        Slice<ShortsLike> results = shortsLikeRepository.findSliceByUserIdWithDetailsLatest(user.getId(), PageRequest.of(0, 10));
 
         // then
-        assertEquals(2, results.getTotalElements(), "전체 데이터는 좋아요 한 숏츠의 갯수와 같아야 합니다");
+        assertFalse(results.hasNext(), "좋아요 한 숏츠를 모두 가져왔으므로 다음 페이지가 없어야 합니다");
         assertEquals(2, results.getContent().size(), "현재 페이지의 데이터 개수는 요청한 값과 같아야 합니다");
         assertEquals("title2", results.getContent().get(0).getShorts().getTitle(),"최신순으로 가져온 숏츠의 제목이어야 합니다");
         assertEquals("description2", results.getContent().get(0).getShorts().getDescription(), "최신순으로 가져온 숏츠의 설명이어야 합니다");
@@ -180,10 +180,10 @@ class ShortsLikeRepositoryTest {
         em.clear();
 
         // when
-        Page<ShortsLike> results = shortsLikeRepository.findAllByUserIdWithDetailsPopular(user.getId(), PageRequest.of(0, 10));
+        Slice<ShortsLike> results = shortsLikeRepository.findSliceByUserIdWithDetailsPopular(user.getId(), PageRequest.of(0, 10));
 
         // then
-        assertEquals(2, results.getTotalElements(), "전체 데이터는 좋아요 한 숏츠의 갯수와 같아야 합니다");
+        assertFalse(results.hasNext(), "좋아요 한 숏츠를 모두 가져왔으므로 다음 페이지가 없어야 합니다");
         assertEquals(2, results.getContent().size(), "현재 페이지의 데이터 개수는 요청한 값과 같아야 합니다");
         assertEquals("title2", results.getContent().get(0).getShorts().getTitle(),"인기순으로 가져온 숏츠의 제목이어야 합니다");
         assertEquals("description2", results.getContent().get(0).getShorts().getDescription(), "인기순으로 가져온 숏츠의 설명이어야 합니다");
@@ -0,0 +1,53 @@
+package com.example.shortudy.domain.shorts.cursor;
+
+import com.example.shortudy.global.error.BaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ShortsCursorCodec 테스트")
+class ShortsCursorCodecTest {
+
+    private final ShortsCursorCodec codec = new ShortsCursorCodec("test-cursor-secret");
+
+    @Test
+    @DisplayName("TC-SC-001: 인코딩한 커서를 같은 scope로 디코딩하면 원래 값이 복원된다")
+    void shouldRoundTrip_WhenSameScope() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000);
+        ShortsCursor cursor = ShortsCursor.ofCreatedAt(createdAt, 42L);
+
+        // when
+        ShortsCursor decoded = codec.decode("latest", codec.encode("latest", cursor));
+
+        // then
+        assertEquals(cursor, decoded);
+        assertEquals(createdAt, decoded.createdAt());
+    }
+
+    @Test
+    @DisplayName("TC-SC-002: 커서가 없으면 첫 페이지 커서를 반환한다")
+    void shouldReturnFirst_WhenTokenIsBlank() {
+        assertTrue(codec.decode("latest", null).isFirst());
+        assertTrue(codec.decode("latest", "").isFirst());
+    }
+
+    @Test
+    @DisplayName("TC-SC-003: 변조된 커서나 다른 피드의 커서는 거부한다")
+    void shouldReject_WhenTamperedOrScopeMismatch() {
+        // given
+        String token = codec.encode("popular:30", new ShortsCursor(10L, 5L));
+        String tampered = codec.encode("popular:30", new ShortsCursor(10L, 6L)).split("\\.")[0]
+                + "." + token.split("\\.")[1];
+
+        // when, then
+        assertThrows(BaseException.class, () -> codec.decode("popular:7", token));
+        assertThrows(BaseException.class, () -> codec.decode("popular:30", tampered));
+        assertThrows(BaseException.class, () -> codec.decode("popular:30", "not-a-cursor"));
+    }
+}
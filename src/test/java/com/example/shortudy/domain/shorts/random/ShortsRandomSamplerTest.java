@@ -0,0 +1,81 @@
+package com.example.shortudy.domain.shorts.random;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import com.example.shortudy.domain.shorts.event.ShortsChangedEvent;
+import com.example.shortudy.domain.shorts.repository.ShortsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ShortsRandomSampler 테스트")
+class ShortsRandomSamplerTest {
+
+    private final ShortsRepository shortsRepository = mock(ShortsRepository.class);
+    private final ShortsRandomSampler sampler = new ShortsRandomSampler(shortsRepository, 300_000L);
+
+    @Test
+    @DisplayName("TC-RS-001: 요청한 개수만큼 서로 다른 ID를 뽑고 제외 대상은 포함하지 않는다")
+    void shouldSampleDistinctIds_ExcludingGivenIds() {
+        // given
+        when(shortsRepository.findPublicPublishedIds()).thenReturn(LongStream.rangeClosed(1, 100).boxed().toList());
+        Set<Long> excludeIds = Set.of(1L, 2L, 3L);
+
+        // when
+        List<Long> sampled = sampler.sample(20, excludeIds);
+
+        // then
+        assertEquals(20, sampled.size());
+        assertEquals(20, new HashSet<>(sampled).size());
+        assertTrue(sampled.stream().noneMatch(excludeIds::contains));
+    }
+
+    @Test
+    @DisplayName("TC-RS-002: 풀보다 많이 요청하면 풀 전체를 반환하고, 풀은 한 번만 적재한다")
+    void shouldReturnWholePool_WhenSizeExceedsPool() {
+        // given
+        when(shortsRepository.findPublicPublishedIds()).thenReturn(List.of(10L, 20L, 30L));
+
+        // when
+        List<Long> first = sampler.sample(10, Set.of());
+        List<Long> second = sampler.sample(10, Set.of(20L));
+
+        // then
+        assertEquals(Set.of(10L, 20L, 30L), new HashSet<>(first));
+        assertEquals(Set.of(10L, 30L), new HashSet<>(second));
+        assertFalse(second.contains(20L));
+        verify(shortsRepository, times(1)).findPublicPublishedIds();
+    }
+
+    @Test
+    @DisplayName("TC-RS-003: 변경 이벤트는 전체 재적재 없이 바뀐 ID만 풀에 넣거나 뺀다")
+    void shouldApplyChangedIdIncrementally() {
+        // given
+        when(shortsRepository.findPublicPublishedIds()).thenReturn(List.of(10L, 20L, 30L));
+        sampler.size();
+        when(shortsRepository.existsByIdAndStatusAndVisibility(40L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC)).thenReturn(true);
+        when(shortsRepository.existsByIdAndStatusAndVisibility(30L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC)).thenReturn(false);
+
+        // when
+        sampler.onShortsChanged(ShortsChangedEvent.published(40L));
+        sampler.onShortsChanged(ShortsChangedEvent.updated(30L)); // 비공개로 전환
+        sampler.onShortsChanged(ShortsChangedEvent.deleted(10L));
+        sampler.refresh();
+
+        // then
+        assertEquals(Set.of(20L, 40L), new HashSet<>(sampler.sample(10, Set.of())));
+        verify(shortsRepository, times(1)).findPublicPublishedIds();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.shortudy.domain.shorts.repository;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.comment.entity.Comment;
+import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.user.entity.User;
+import com.example.shortudy.domain.user.entity.UserRole;
+import com.example.shortudy.global.config.JpaAuditConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(JpaAuditConfig.class)
+@DisplayName("Shorts Repository 테스트")
+class ShortsRepositoryTest {
+
+    @Autowired
+    private ShortsRepository shortsRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private User user;
+    private Shorts shorts;
+
+    @BeforeEach
+    void setUp() {
+        user = User.create("test@example.com", "password", "nickname", UserRole.USER);
+        em.persist(user);
+
+        Category category = new Category("category");
+        em.persist(category);
+
+        shorts = new Shorts(user, category, "title", "description",
+                "http://video.url", "http://thumbnail.url", 500, ShortsStatus.PUBLISHED);
+        em.persist(shorts);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("TC-SR-001: 댓글 수 증감은 0 아래로 내려가지 않는다")
+    void shouldNotGoBelowZero_WhenDecreaseCommentCount() {
+        // when
+        shortsRepository.increaseCommentCount(shorts.getId(), 2);
+        shortsRepository.increaseCommentCount(shorts.getId(), -5);
+        em.clear();
+
+        // then
+        assertEquals(0L, em.find(Shorts.class, shorts.getId()).getCommentCount());
+    }
+
+    @Test
+    @DisplayName("TC-SR-002: 엔티티 변경 감지로는 댓글 수가 덮어써지지 않는다")
+    void shouldKeepCommentCount_WhenEntityIsFlushed() {
+        // given
+        shortsRepository.increaseCommentCount(shorts.getId(), 3);
+
+        // when - 영속성 컨텍스트의 엔티티는 commentCount = 0 상태로 다른 필드만 변경
+        shorts.incrementLikeCount();
+        em.flush();
+        em.clear();
+
+        // then
+        assertEquals(3L, em.find(Shorts.class, shorts.getId()).getCommentCount());
+    }
+
+    @Test
+    @DisplayName("TC-SR-003: 정합성 보정 시 ACTIVE 댓글 수로 되돌린다")
+    void shouldReconcileToActiveComments() {
+        // given
+        Comment comment = Comment.create(user, shorts, "content");
+        em.persist(comment);
+        em.persist(Comment.reply(user, comment, "reply"));
+        Comment deleted = Comment.create(user, shorts, "deleted");
+        deleted.softDelete(user.getId());
+        em.persist(deleted);
+        shortsRepository.increaseCommentCount(shorts.getId(), 10);
+
+        // when
+        int fixed = shortsRepository.reconcileCommentCount(shorts.getId(), shorts.getId());
+        em.clear();
+
+        // then
+        assertEquals(1, fixed);
+        assertEquals(2L, em.find(Shorts.class, shorts.getId()).getCommentCount());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.shortudy.domain.shorts.search.index;
+
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.shorts.entity.ShortsVisibility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ShortsSearchIndex 테스트")
+class ShortsSearchIndexTest {
+
+    private final ShortsSearchIndex index = new ShortsSearchIndex("", 2.0f);
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    @DisplayName("TC-SS-001: 제목/키워드 일치를 점수 순으로 반환하고, 카테고리/상태/공개 여부로 거른다")
+    void shouldRankByRelevance_AndApplyFilters() {
+        // given
+        index.upsert(List.of(
+                document(1L, "자바 스프링 입문", "백엔드 기초", List.of("spring"), 10L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 0),
+                document(2L, "파이썬 기초", "스프링 없이 시작하기", List.of("python"), 10L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 0),
+                document(3L, "스프링 부트 실전", "", List.of(), 20L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 0),
+                document(4L, "스프링 비공개", "", List.of(), 10L, ShortsStatus.PUBLISHED, ShortsVisibility.PRIVATE, 0),
+                document(5L, "스프링 검수중", "", List.of(), 10L, ShortsStatus.PENDING, ShortsVisibility.PUBLIC, 0)));
+
+        // when
+        List<Long> all = index.search("스프링", null, ShortsStatus.PUBLISHED, 0, 10);
+        List<Long> category = index.search("스프링", 10L, ShortsStatus.PUBLISHED, 0, 10);
+
+        // then
+        assertEquals(3, all.size());
+        assertEquals(2L, all.get(all.size() - 1)); // 설명에만 있는 일치는 제목 일치보다 뒤
+        assertEquals(List.of(1L, 2L), category);
+        assertTrue(index.search("스프링", null, ShortsStatus.PENDING, 0, 10).contains(5L));
+    }
+
+    @Test
+    @DisplayName("TC-SS-002: 입력 중인 자모 접두사로 제목을 찾고, 같은 일치도면 인기도가 높은 숏츠가 앞선다")
+    void shouldMatchJamoPrefix_AndBoostPopular() {
+        // given
+        index.upsert(List.of(
+                document(1L, "자바 기초", "", List.of(), 1L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 0),
+                document(2L, "자바 기초", "", List.of(), 1L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 1_000)));
+
+        // when
+        List<Long> result = index.search("잡", null, ShortsStatus.PUBLISHED, 0, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), result);
+
+        // 삭제 후에는 더 이상 조회되지 않는다.
+        index.delete(2L);
+        assertEquals(List.of(1L), index.search("자ㅂ", null, null, 0, 10));
+    }
+
+    @Test
+    @DisplayName("TC-SS-003: 조회 한도(MAX_RESULT_WINDOW)를 넘는 offset은 빈 결과, 걸치는 요청은 한도 안까지만 반환한다")
+    void shouldCapResultsAtMaxResultWindow() {
+        // given
+        List<ShortsSearchDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= ShortsSearchIndex.MAX_RESULT_WINDOW + 5; id++) {
+            documents.add(document(id, "스프링 " + id, "", List.of(), 1L, ShortsStatus.PUBLISHED, ShortsVisibility.PUBLIC, 0));
+        }
+        index.upsert(documents);
+        int window = ShortsSearchIndex.MAX_RESULT_WINDOW;
+
+        // when
+        List<Long> boundary = index.search("스프링", null, null, window - 3, 10);
+        List<Long> beyond = index.search("스프링", null, null, window, 10);
+        List<Long> huge = index.search("스프링", null, null, Long.MAX_VALUE - 5, 10);
+
+        // then
+        assertEquals(3, boundary.size());
+        assertTrue(beyond.isEmpty());
+        assertTrue(huge.isEmpty());
+    }
+
+    private static ShortsSearchDocument document(Long id, String title, String description, List<String> keywords,
+                                                 Long categoryId, ShortsStatus status, ShortsVisibility visibility,
+                                                 long likeCount) {
+        return new ShortsSearchDocument(id, title, description, keywords, categoryId, status, visibility, 0L, likeCount, 0L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.shortudy.domain.shorts.trending.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TrendingScoreCalculator 테스트")
+class TrendingScoreCalculatorTest {
+
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    @DisplayName("TC-TS-001: 같은 게시 시각이면 참여도가 높을수록 점수가 높다")
+    void shouldScoreHigher_WhenEngagementIsHigher() {
+        // given
+        long quiet = TrendingScoreCalculator.calculate(10, 0, 0, PUBLISHED_AT);
+        long liked = TrendingScoreCalculator.calculate(10, 5, 0, PUBLISHED_AT);
+        long discussed = TrendingScoreCalculator.calculate(10, 5, 3, PUBLISHED_AT);
+
+        // then
+        assertTrue(quiet < liked);
+        assertTrue(liked < discussed);
+    }
+
+    @Test
+    @DisplayName("TC-TS-002: 참여도 10배 차이는 12.5시간 늦은 게시와 같은 점수다")
+    void shouldDecayByOneOrderOfMagnitudePerDecayWindow() {
+        // given
+        long older = TrendingScoreCalculator.calculate(100, 0, 0, PUBLISHED_AT);
+        long newer = TrendingScoreCalculator.calculate(10, 0, 0, PUBLISHED_AT.plusSeconds(45_000));
+
+        // then
+        assertEquals(older, newer);
+    }
+
+    @Test
+    @DisplayName("TC-TS-003: 점수를 감쇠된 참여도로 되돌리면 게시 직후에는 참여도, 12.5시간 뒤에는 1/10이다")
+    void shouldConvertScoreBackToDecayedEngagement() {
+        // given
+        long score = TrendingScoreCalculator.calculate(100, 10, 5, PUBLISHED_AT);
+
+        // when
+        double atPublish = TrendingScoreCalculator.decayedEngagement(score, PUBLISHED_AT);
+        double later = TrendingScoreCalculator.decayedEngagement(score, PUBLISHED_AT.plusSeconds(45_000));
+
+        // then
+        assertEquals(200.0, atPublish, 0.01);
+        assertEquals(20.0, later, 0.01);
+    }
+}
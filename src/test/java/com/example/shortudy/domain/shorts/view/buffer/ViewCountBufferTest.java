@@ -0,0 +1,108 @@
+package com.example.shortudy.domain.shorts.view.buffer;
+
+import com.example.shortudy.domain.shorts.view.repository.RedisShortsViewCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ViewCountBuffer 테스트")
+class ViewCountBufferTest {
+
+    private final RedisShortsViewCountRepository repository = mock(RedisShortsViewCountRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("TC-VB-001: 숏츠별 증가분을 모아 한 번에 반영하고, 반영 실패분은 다음 주기에 다시 보낸다")
+    void shouldAggregateIncrements_AndRetryFailedDrain() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, meterRegistry);
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(1L, 1);
+        }
+        buffer.add(2L, 3);
+        doThrow(new RedisConnectionFailureException("down")).doNothing().when(repository).increaseViewCounts(anyMap());
+
+        // when
+        buffer.drain();
+        assertEquals(1003.0, meterRegistry.get("shorts.view.buffer.pending").gauge().value());
+        buffer.drain();
+        buffer.drain();
+
+        // then
+        verify(repository, times(2)).increaseViewCounts(Map.of(1L, 1000L, 2L, 3L));
+        assertEquals(0.0, meterRegistry.get("shorts.view.buffer.size").gauge().value());
+        assertEquals(1.0, meterRegistry.get("shorts.view.buffer.drain.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("TC-VB-002: 반영 중에 동시에 들어온 증가분도 유실되지 않는다")
+    void shouldNotLoseIncrements_WhenDrainingConcurrently() throws Exception {
+        // given
+        AtomicLong drained = new AtomicLong();
+        doAnswer(invocation -> {
+            Map<Long, Long> increments = invocation.getArgument(0);
+            increments.values().forEach(drained::addAndGet);
+            return null;
+        }).when(repository).increaseViewCounts(anyMap());
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, meterRegistry);
+
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when - 숏츠 8개에 나눠 더하는 동안 계속 반영 (한가해진 슬롯 제거도 함께 일어난다)
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add((long) (i % 8), 1);
+                }
+            }));
+        }
+        boolean running = true;
+        while (running) {
+            buffer.drain();
+            running = futures.stream().anyMatch(f -> !f.isDone());
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        buffer.destroy();
+
+        // then
+        assertEquals((long) threads * perThread, drained.get());
+    }
+
+    @Test
+    @DisplayName("TC-VB-003: 증가분이 없으면 Redis를 호출하지 않는다")
+    void shouldSkipRedis_WhenNothingBuffered() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(repository, meterRegistry);
+        buffer.add(1L, 0);
+
+        // when
+        buffer.drain();
+
+        // then
+        verify(repository, never()).increaseViewCounts(anyMap());
+    }
+}
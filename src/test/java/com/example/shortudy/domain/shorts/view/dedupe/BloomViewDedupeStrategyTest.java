@@ -0,0 +1,51 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BloomViewDedupeStrategy 테스트")
+class BloomViewDedupeStrategyTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Test
+    @DisplayName("TC-VD-001: 예상 방문자 수와 오탐률로 비트 수/해시 수를 정하고, 키는 숏츠 × 일 단위다")
+    void shouldSizeFilter_FromExpectedViewsAndFalsePositiveRate() {
+        // when
+        BloomViewDedupeStrategy strategy = new BloomViewDedupeStrategy(10000, 0.01, clock);
+
+        // then
+        assertEquals(95851, strategy.bitCount());
+        assertEquals(7, strategy.hashCount());
+        assertEquals(11982, strategy.bytesPerShort());
+        assertEquals("shorts:view:bloom:20260301:42", strategy.key(42L, "user:1"));
+    }
+
+    @Test
+    @DisplayName("TC-VD-002: 같은 방문자는 항상 같은 비트 위치를 쓰고, 위치는 필터 범위 안에 있다")
+    void shouldMapVisitorToStablePositions() {
+        // given
+        BloomViewDedupeStrategy strategy = new BloomViewDedupeStrategy(1000, 0.001, clock);
+
+        // when
+        long[] first = strategy.positions("guest:abc");
+        long[] second = strategy.positions("guest:abc");
+        List<String> args = strategy.args("guest:abc");
+
+        // then
+        assertArrayEquals(first, second);
+        assertEquals(strategy.hashCount() + 1, args.size());
+        for (long position : first) {
+            assertTrue(position >= 0 && position < strategy.bitCount());
+        }
+    }
+}
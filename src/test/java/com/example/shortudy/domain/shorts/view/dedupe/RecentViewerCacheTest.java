@@ -0,0 +1,26 @@
+package com.example.shortudy.domain.shorts.view.dedupe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RecentViewerCache 테스트")
+class RecentViewerCacheTest {
+
+    @Test
+    @DisplayName("TC-RV-001: 판정한 (숏츠, 방문자)만 최근 조회로 보고, 다른 숏츠나 방문자는 구분한다")
+    void shouldRememberOnlyMarkedViewer() {
+        // given
+        RecentViewerCache cache = new RecentViewerCache(60_000, 1_000);
+
+        // when
+        cache.mark(1L, "visitor-a");
+
+        // then
+        assertTrue(cache.isRecent(1L, "visitor-a"));
+        assertFalse(cache.isRecent(1L, "visitor-b"));
+        assertFalse(cache.isRecent(2L, "visitor-a"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.shortudy.domain.shorts.view.repository;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.user.entity.User;
+import com.example.shortudy.domain.user.entity.UserRole;
+import com.example.shortudy.global.config.JpaAuditConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({JpaAuditConfig.class, ShortsViewCountBulkRepository.class})
+@DisplayName("ShortsViewCountBulkRepository 테스트")
+class ShortsViewCountBulkRepositoryTest {
+
+    @Autowired
+    private ShortsViewCountBulkRepository bulkRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("TC-VC-001: 청크의 숏츠별 증가분을 UPDATE 한 번으로 반영하고, 없는 id는 건너뛴다")
+    void shouldAddViewCounts_InSingleStatement() {
+        // given
+        User user = User.create("test@example.com", "password", "nickname", UserRole.USER);
+        em.persist(user);
+        Category category = new Category("category");
+        em.persist(category);
+        Shorts first = new Shorts(user, category, "first", "description",
+                "http://video.url", "http://thumbnail.url", 30, ShortsStatus.PUBLISHED);
+        Shorts second = new Shorts(user, category, "second", "description",
+                "http://video.url", "http://thumbnail.url", 30, ShortsStatus.PUBLISHED);
+        em.persist(first);
+        em.persist(second);
+        em.flush();
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        counts.put(first.getId(), 3L);
+        counts.put(second.getId(), 10L);
+        counts.put(999_999L, 5L);
+
+        // when
+        int updated = bulkRepository.addViewCounts(counts);
+        em.clear();
+
+        // then
+        assertEquals(2, updated);
+        assertEquals(3L, em.find(Shorts.class, first.getId()).getViewCount());
+        assertEquals(10L, em.find(Shorts.class, second.getId()).getViewCount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.shortudy.global.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 핫 쿼리 실행 계획 회귀 테스트
+ * - 엔티티 인덱스(= db/vendor/mysql/V2, V3)로 생성된 스키마에서 EXPLAIN을 실행해 full scan이 없는지 확인한다.
+ * - 인덱스를 지우거나 쿼리 조건을 바꿔 인덱스를 못 타게 되면 빌드가 실패한다.
+ * [한계]
+ * - H2 옵티마이저의 계획(tableScan 여부)만 확인한다. MySQL은 통계에 따라 다른 인덱스나 filesort를 고를 수 있으므로,
+ *   운영 계획은 MySQL에서 EXPLAIN으로 따로 확인해야 한다.
+ */
+@DataJpaTest
+@DisplayName("핫 쿼리 EXPLAIN 회귀 테스트")
+class HotQueryIndexExplainTest {
+
+    @Autowired
+    private EntityManager em;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("최신 피드", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'
+                          AND (s.created_at < TIMESTAMP '2026-01-01 00:00:00'
+                               OR (s.created_at = TIMESTAMP '2026-01-01 00:00:00' AND s.id < 100))
+                        ORDER BY s.created_at DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("카테고리 최신 피드", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.category_id = 1 AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'
+                        ORDER BY s.created_at DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("인기 목록", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'
+                        ORDER BY s.trending_score DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("인기 피드", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'
+                        AND (s.trending_score < 100 OR (s.trending_score = 100 AND s.id < 50))
+                        ORDER BY s.trending_score DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("카테고리 인기 목록", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.category_id = 1 AND s.status = 'PUBLISHED' AND s.visibility = 'PUBLIC'
+                        ORDER BY s.trending_score DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("내 숏츠 목록", """
+                        SELECT s.id FROM shorts s
+                        WHERE s.user_id = 1
+                        ORDER BY s.created_at DESC, s.id DESC LIMIT 21"""),
+                Arguments.of("숏츠 댓글 목록", """
+                        SELECT c.id FROM comment c
+                        WHERE c.shorts_id = 1 AND c.parent_id IS NULL
+                        ORDER BY c.created_at DESC"""),
+                Arguments.of("숏츠 댓글 개수", """
+                        SELECT COUNT(*) FROM comment c
+                        WHERE c.shorts_id = 1 AND c.status = 'ACTIVE'"""),
+                Arguments.of("대댓글 목록", """
+                        SELECT c.id FROM comment c
+                        WHERE c.parent_id = 1
+                        ORDER BY c.created_at ASC"""),
+                Arguments.of("내가 좋아요한 목록", """
+                        SELECT sl.id FROM shorts_like sl
+                        WHERE sl.user_id = 1 AND sl.deleted_at IS NULL
+                        ORDER BY sl.created_at DESC, sl.id DESC LIMIT 21"""),
+                Arguments.of("숏츠별 좋아요 개수", """
+                        SELECT sl.shorts_id, COUNT(sl.id) FROM shorts_like sl
+                        WHERE sl.shorts_id IN (1, 2, 3) AND sl.deleted_at IS NULL
+                        GROUP BY sl.shorts_id"""),
+                Arguments.of("플레이리스트 아이템 목록", """
+                        SELECT ps.id FROM playlist_shorts ps
+                        WHERE ps.playlist_id = 1
+                        ORDER BY ps.position ASC LIMIT 21""")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("TC-IX-001: 핫 쿼리는 full scan 없이 인덱스로 실행된다")
+    void shouldUseIndex_WhenExplainHotQuery(String name, String sql) {
+        // when
+        String plan = String.valueOf(em.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+
+        // then
+        assertFalse(plan.contains("tableScan"), () -> name + " 쿼리가 full scan으로 실행됩니다.\n" + plan);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.shortudy.global.config;
+
+import com.example.shortudy.domain.category.entity.Category;
+import com.example.shortudy.domain.keyword.entity.Keyword;
+import com.example.shortudy.domain.shorts.entity.Shorts;
+import com.example.shortudy.domain.shorts.entity.ShortsKeyword;
+import com.example.shortudy.domain.shorts.entity.ShortsStatus;
+import com.example.shortudy.domain.user.entity.User;
+import com.example.shortudy.domain.user.entity.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditConfig.class, JpaBatchConfig.class})
+@DisplayName("JDBC 배치 INSERT 테스트")
+class JpaBatchInsertTest {
+
+    private static final int KEYWORD_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("TC-JB-001: 키워드 30개 숏츠 저장 시 INSERT가 행마다 나가지 않고 배치로 묶인다")
+    void shouldBatchInserts_WhenPersistShortsWithKeywords() {
+        // given
+        User user = em.persist(User.create("batch@example.com", "password", "nickname", UserRole.USER));
+        Category category = em.persist(new Category("category"));
+        List<Keyword> keywords = new ArrayList<>();
+        for (int i = 0; i < KEYWORD_COUNT; i++) {
+            keywords.add(em.persist(new Keyword("KEYWORD" + i, "keyword" + i)));
+        }
+        em.flush();
+
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Shorts shorts = new Shorts(user, category, "title", "description",
+                "http://video.url", "http://thumbnail.url", 60, ShortsStatus.PUBLISHED);
+        keywords.forEach(shorts::addKeyword);
+        em.persist(shorts);
+        em.flush();
+
+        // then - shorts 1행 + shorts_keyword 30행이 SQL 2개(각 1배치)로 실행된다
+        assertEquals(KEYWORD_COUNT + 1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        // then - 시간 정렬 ID는 생성 순서대로 증가한다
+        List<Long> ids = shorts.getShortsKeywords().stream().map(ShortsKeyword::getId).toList();
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+        assertTrue(shorts.getId() < ids.get(0));
+    }
+}
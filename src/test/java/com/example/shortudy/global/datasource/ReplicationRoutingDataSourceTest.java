@@ -0,0 +1,110 @@
+package com.example.shortudy.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("읽기/쓰기 DataSource 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaSelector replicaSelector;
+    private final AtomicLong currentUserId = new AtomicLong(1L);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        // 두 개의 로컬 DB에 서로 다른 값을 넣어 어느 쪽으로 라우팅됐는지 구분한다.
+        primary = h2("primary");
+        replica = h2("replica");
+
+        replicaSelector = new ReplicaSelector(
+                List.of(new ReplicaSelector.Replica("replica-0", replica)), ReplicaSelector.Strategy.ROUND_ROBIN);
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                replicaSelector, new ReadYourWritesTracker(60_000), currentUserId::get);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY_KEY, primary,
+                "replica-0", replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("TC-DS-001: 읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary로 라우팅된다")
+    void shouldRouteByReadOnlyFlag() {
+        // when
+        String read = readOnlyTx.execute(status -> whereAmI());
+        String write = writeTx.execute(status -> whereAmI());
+
+        // then
+        assertEquals("replica", read);
+        assertEquals("primary", write);
+    }
+
+    @Test
+    @DisplayName("TC-DS-002: 본인 쓰기 직후의 읽기와 지연된 replica는 primary로 우회한다")
+    void shouldFallbackToPrimary_WhenRecentWriteOrReplicaLagging() {
+        // given - 다른 사용자의 읽기는 replica
+        currentUserId.set(2L);
+        assertEquals("replica", readOnlyTx.execute(status -> whereAmI()));
+
+        // when - 사용자 1이 쓰기 후 바로 읽기
+        currentUserId.set(1L);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = name"));
+        String readAfterWrite = readOnlyTx.execute(status -> whereAmI());
+
+        // when - replica 지연으로 unhealthy
+        currentUserId.set(2L);
+        replicaSelector.getReplicas().get(0).markHealthy(false);
+        String readWhileLagging = readOnlyTx.execute(status -> whereAmI());
+
+        // then
+        assertEquals("primary", readAfterWrite);
+        assertEquals("primary", readWhileLagging);
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.shortudy.global.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SchedulerLock 테스트")
+class SchedulerLockTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SchedulerLock schedulerLock = new SchedulerLock(redisTemplate, 30000);
+
+    @AfterEach
+    void tearDown() {
+        schedulerLock.destroy();
+    }
+
+    @Test
+    @DisplayName("TC-SL-001: 다른 인스턴스가 락을 쥐고 있거나 Redis에 접근할 수 없으면 작업을 실행하지 않는다")
+    void shouldSkipTask_WhenLockNotAcquired() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .thenReturn(0L)
+                .thenThrow(new RedisConnectionFailureException("down"));
+        AtomicLong runs = new AtomicLong();
+
+        // when
+        boolean first = schedulerLock.runExclusively("job", Duration.ZERO, lease -> runs.incrementAndGet());
+        boolean second = schedulerLock.runExclusively("job", Duration.ZERO, lease -> runs.incrementAndGet());
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @DisplayName("TC-SL-002: 락을 얻으면 펜싱 토큰과 함께 실행하고, 최소 유지 시간이 남았으면 그만큼만 유지한 채 해제한다")
+    void shouldRunWithFencingToken_AndKeepLockForMinHold() {
+        // given
+        List<Object[]> calls = new ArrayList<>();
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    Object[] args = new Object[invocation.getArguments().length - 2];
+                    System.arraycopy(invocation.getArguments(), 2, args, 0, args.length);
+                    calls.add(new Object[]{keys, args});
+                    return keys.size() == 2 ? 7L : 1L;
+                });
+        AtomicLong token = new AtomicLong();
+        List<String> fenceKey = new ArrayList<>();
+
+        // when
+        boolean ran = schedulerLock.runExclusively("job", Duration.ofMinutes(1), lease -> {
+            assertTrue(lease.isHeld());
+            token.set(lease.fencingToken());
+            fenceKey.add(lease.fenceKey());
+        });
+
+        // then
+        assertTrue(ran);
+        assertEquals(7L, token.get());
+        assertEquals(List.of("lock:job", "lock:job:fence"), calls.get(0)[0]);
+        assertEquals(List.of("lock:job:fence"), fenceKey);
+        Object[] releaseArgs = (Object[]) calls.get(calls.size() - 1)[1];
+        assertEquals(((Object[]) calls.get(0)[1])[0], releaseArgs[0]);
+        assertTrue(Long.parseLong((String) releaseArgs[1]) > 50_000);
+    }
+
+    @Test
+    @DisplayName("TC-SL-003: Redis 오류로 lease 시간 이상 갱신하지 못하면 임대를 잃은 것으로 본다")
+    void shouldLoseLease_WhenRenewalFailsLongerThanLeaseTime() {
+        // given
+        SchedulerLock shortLeaseLock = new SchedulerLock(redisTemplate, 30);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    if (keys.size() == 2) {
+                        return 1L;
+                    }
+                    throw new RedisConnectionFailureException("down");
+                });
+        List<Boolean> heldAtEnd = new ArrayList<>();
+
+        // when
+        try {
+            shortLeaseLock.runExclusively("job", Duration.ZERO, lease -> {
+                long deadline = System.currentTimeMillis() + 2000;
+                while (lease.isHeld() && System.currentTimeMillis() < deadline) {
+                    Thread.onSpinWait();
+                }
+                heldAtEnd.add(lease.isHeld());
+            });
+        } finally {
+            shortLeaseLock.destroy();
+        }
+
+        // then
+        assertEquals(List.of(false), heldAtEnd);
+    }
+}